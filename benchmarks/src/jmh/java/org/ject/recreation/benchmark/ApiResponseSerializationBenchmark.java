@@ -0,0 +1,85 @@
+package org.ject.recreation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ject.recreation.core.api.controller.response.SocialLoginResponseDto;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.ject.recreation.core.support.response.ApiResponseHttpMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+
+/**
+ * 응답 envelope 직렬화 비용. 기본 Jackson converter 와 ApiResponseHttpMessageConverter 를 같은 응답으로 비교한다.
+ */
+@State(Scope.Benchmark)
+public class ApiResponseSerializationBenchmark {
+
+    private MappingJackson2HttpMessageConverter jacksonConverter;
+
+    private ApiResponseHttpMessageConverter apiResponseConverter;
+
+    private ApiResponse<?> success;
+
+    private ApiResponse<SocialLoginResponseDto> successWithData;
+
+    private ApiResponse<?> error;
+
+    @Setup
+    public void setUp() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        jacksonConverter = new MappingJackson2HttpMessageConverter(objectMapper);
+        apiResponseConverter = new ApiResponseHttpMessageConverter(objectMapper);
+        success = ApiResponse.success();
+        successWithData = ApiResponse.success(new SocialLoginResponseDto(
+                "https://k.kakaocdn.net/dn/profile/img_640x640.jpg", "nickname", "user@example.com"));
+        error = ApiResponse.error(ErrorType.KAKAO_UNAVAILABLE);
+    }
+
+    @Benchmark
+    public byte[] jacksonSuccess() throws IOException {
+        return write(jacksonConverter, success);
+    }
+
+    @Benchmark
+    public byte[] apiResponseSuccess() throws IOException {
+        return write(apiResponseConverter, success);
+    }
+
+    @Benchmark
+    public byte[] jacksonSuccessWithData() throws IOException {
+        return write(jacksonConverter, successWithData);
+    }
+
+    @Benchmark
+    public byte[] apiResponseSuccessWithData() throws IOException {
+        return write(apiResponseConverter, successWithData);
+    }
+
+    @Benchmark
+    public byte[] jacksonError() throws IOException {
+        return write(jacksonConverter, error);
+    }
+
+    @Benchmark
+    public byte[] apiResponseError() throws IOException {
+        return write(apiResponseConverter, error);
+    }
+
+    private static byte[] write(MappingJackson2HttpMessageConverter converter, ApiResponse<?> response)
+            throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+
+    private static byte[] write(ApiResponseHttpMessageConverter converter, ApiResponse<?> response)
+            throws IOException {
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response, MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+}
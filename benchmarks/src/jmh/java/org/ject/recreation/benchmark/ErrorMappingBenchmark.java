@@ -0,0 +1,49 @@
+package org.ject.recreation.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ject.recreation.core.api.controller.ApiControllerAdvice;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.ject.recreation.core.support.response.ApiResponseHttpMessageConverter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.http.MockHttpOutputMessage;
+
+import java.io.IOException;
+import java.time.Duration;
+
+/**
+ * 서비스에서 CoreException 을 던진 뒤 ApiControllerAdvice 가 응답 본문을 만들기까지의 비용.
+ * 예외 생성(expected 가 아니면 스택 트레이스 포함), 로그 중복 제거, envelope 인코딩이 모두 포함된다.
+ */
+@State(Scope.Benchmark)
+public class ErrorMappingBenchmark {
+
+    @Param({"KAKAO_UNAVAILABLE", "DEFAULT_ERROR"})
+    private ErrorType errorType;
+
+    private ApiControllerAdvice advice;
+
+    private ApiResponseHttpMessageConverter converter;
+
+    @Setup
+    public void setUp() {
+        advice = new ApiControllerAdvice(Duration.ofMinutes(1), 1000);
+        converter = new ApiResponseHttpMessageConverter(new ObjectMapper());
+    }
+
+    @Benchmark
+    public byte[] throwAndMap() throws IOException {
+        ResponseEntity<ApiResponse<?>> response;
+        try {
+            throw new CoreException(errorType);
+        } catch (CoreException e) {
+            response = advice.handleCoreException(e);
+        }
+        MockHttpOutputMessage message = new MockHttpOutputMessage();
+        converter.write(response.getBody(), MediaType.APPLICATION_JSON, message);
+        return message.getBodyAsBytes();
+    }
+}
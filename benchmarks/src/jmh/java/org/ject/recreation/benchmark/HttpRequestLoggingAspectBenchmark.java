@@ -0,0 +1,62 @@
+package org.ject.recreation.benchmark;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import org.ject.recreation.HttpRequestLoggingAspect;
+import org.ject.recreation.benchmark.controller.BenchmarkController;
+import org.openjdk.jmh.annotations.*;
+import org.slf4j.LoggerFactory;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * 컨트롤러 호출 하나에 HttpRequestLoggingAspect 가 더하는 비용. DEBUG 가 꺼진 운영 설정과 켜진 개발 설정을 비교한다.
+ * 로그는 JsonLogEncoder 로 메시지(RequestLogMessage.toString)를 렌더링해서 인코딩까지 하고, 출력(I/O)만 버린다.
+ */
+@State(Scope.Thread)
+public class HttpRequestLoggingAspectBenchmark {
+
+    @Param({"false", "true"})
+    private boolean debug;
+
+    private BenchmarkController target;
+
+    private BenchmarkController proxied;
+
+    private BenchmarkController.LoginRequest request;
+
+    @Setup
+    public void setUp() {
+        ((Logger) LoggerFactory.getLogger(HttpRequestLoggingAspect.class)).setLevel(debug ? Level.DEBUG : Level.INFO);
+
+        target = new BenchmarkController();
+        AspectJProxyFactory proxyFactory = new AspectJProxyFactory(target);
+        proxyFactory.setProxyTargetClass(true);
+        proxyFactory.addAspect(new HttpRequestLoggingAspect(1.0, 2048));
+        proxied = proxyFactory.getProxy();
+        request = new BenchmarkController.LoginRequest("authorization-code", "kakao");
+
+        MockHttpServletRequest servletRequest = new MockHttpServletRequest("POST", "/api/v1/social-login");
+        servletRequest.setRemoteAddr("10.0.0.1");
+        servletRequest.addHeader("User-Agent", "Mozilla/5.0");
+        servletRequest.setContentType("application/json");
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public Object direct() {
+        return target.login(request);
+    }
+
+    @Benchmark
+    public Object withAspect() {
+        return proxied.login(request);
+    }
+}
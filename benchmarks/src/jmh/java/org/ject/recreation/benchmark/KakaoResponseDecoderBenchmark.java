@@ -0,0 +1,103 @@
+package org.ject.recreation.benchmark;
+
+import org.ject.recreation.client.kakao.KakaoResponseDecoder;
+import org.ject.recreation.client.kakao.KakaoTokenResponse;
+import org.ject.recreation.client.kakao.KakaoUserInfo;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+import org.springframework.http.codec.json.Jackson2JsonDecoder;
+import reactor.core.publisher.Flux;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Kakao 토큰/사용자 정보 응답 디코딩 비용. 예전 방식(bodyToMono(Map.class) 후 HashMap 으로 옮겨 담기)과
+ * KakaoResponseDecoder 의 스트리밍 파싱을 같은 응답 본문으로 비교한다. 할당량은 gc 프로파일러로 본다.
+ * ./gradlew :benchmarks:jmh -PjmhIncludes=KakaoResponseDecoder -PjmhProfilers=gc
+ * (gc.alloc.rate.norm 이 요청 하나당 할당 바이트)
+ */
+@State(Scope.Benchmark)
+public class KakaoResponseDecoderBenchmark {
+
+    private static final ResolvableType MAP_TYPE = ResolvableType.forClass(Map.class);
+
+    // OIDC 를 켰을 때의 토큰 응답 (id_token 은 실제와 비슷한 길이의 JWT)
+    private static final String TOKEN_RESPONSE = "{\"access_token\":\"" + "a".repeat(54) + "\","
+            + "\"token_type\":\"bearer\",\"refresh_token\":\"" + "r".repeat(54) + "\","
+            + "\"id_token\":\"eyJraWQiOiI5ZjI1MmRhZGQ1ZjIzM2Y5M2QyZmE1MjhkMTJmZWEiLCJ0eXAiOiJKV1QiLCJhbGciOiJSUzI1NiJ9."
+            + "i".repeat(420) + "." + "s".repeat(342) + "\","
+            + "\"expires_in\":21599,\"scope\":\"account_email profile_image openid profile_nickname\","
+            + "\"refresh_token_expires_in\":5183999}";
+
+    // /v2/user/me 응답. 동의 항목 플래그와 properties 등 쓰지 않는 값이 대부분
+    private static final String USER_INFO_RESPONSE = "{\"id\":3456789012,\"connected_at\":\"2024-03-02T11:22:33Z\","
+            + "\"properties\":{\"nickname\":\"홍길동\","
+            + "\"profile_image\":\"http://k.kakaocdn.net/dn/bXyZ12/btsAbCdEfGh/KkLlMmNnOoPpQqRr/img_640x640.jpg\","
+            + "\"thumbnail_image\":\"http://k.kakaocdn.net/dn/bXyZ12/btsAbCdEfGh/KkLlMmNnOoPpQqRr/img_110x110.jpg\"},"
+            + "\"kakao_account\":{\"profile_nickname_needs_agreement\":false,\"profile_image_needs_agreement\":false,"
+            + "\"profile\":{\"nickname\":\"홍길동\","
+            + "\"thumbnail_image_url\":\"http://k.kakaocdn.net/dn/bXyZ12/btsAbCdEfGh/KkLlMmNnOoPpQqRr/img_110x110.jpg\","
+            + "\"profile_image_url\":\"http://k.kakaocdn.net/dn/bXyZ12/btsAbCdEfGh/KkLlMmNnOoPpQqRr/img_640x640.jpg\","
+            + "\"is_default_image\":false,\"is_default_nickname\":false},"
+            + "\"has_email\":true,\"email_needs_agreement\":false,\"is_email_valid\":true,\"is_email_verified\":true,"
+            + "\"email\":\"gildong.hong@kakao.com\",\"has_age_range\":true,\"age_range_needs_agreement\":true,"
+            + "\"has_birthday\":true,\"birthday_needs_agreement\":true,\"has_gender\":true,"
+            + "\"gender_needs_agreement\":true}}";
+
+    private final DefaultDataBufferFactory bufferFactory = DefaultDataBufferFactory.sharedInstance;
+
+    private Jackson2JsonDecoder jacksonDecoder;
+
+    private byte[] tokenBytes;
+
+    private byte[] userInfoBytes;
+
+    @Setup
+    public void setUp() {
+        jacksonDecoder = new Jackson2JsonDecoder();
+        tokenBytes = TOKEN_RESPONSE.getBytes(StandardCharsets.UTF_8);
+        userInfoBytes = USER_INFO_RESPONSE.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public String mapToken() {
+        Map<?, ?> response = decodeMap(tokenBytes);
+        return (String) response.get("access_token");
+    }
+
+    @Benchmark
+    public KakaoTokenResponse streamingToken() {
+        return KakaoResponseDecoder.decodeToken(body(tokenBytes)).block();
+    }
+
+    @Benchmark
+    public Map<String, String> mapUserInfo() {
+        Map<?, ?> response = decodeMap(userInfoBytes);
+        Map<?, ?> kakaoAccount = (Map<?, ?>) response.get("kakao_account");
+        Map<?, ?> profile = (Map<?, ?>) kakaoAccount.get("profile");
+
+        Map<String, String> userInfo = new HashMap<>();
+        userInfo.put("email", (String) kakaoAccount.get("email"));
+        userInfo.put("nickname", (String) profile.get("nickname"));
+        userInfo.put("profileImageUrl", (String) profile.get("profile_image_url"));
+        return userInfo;
+    }
+
+    @Benchmark
+    public KakaoUserInfo streamingUserInfo() {
+        return KakaoResponseDecoder.decodeUserInfo(body(userInfoBytes)).block();
+    }
+
+    // WebClient 의 bodyToMono(Map.class) 가 쓰는 것과 같은 decoder 경로
+    private Map<?, ?> decodeMap(byte[] bytes) {
+        return (Map<?, ?>) jacksonDecoder.decodeToMono(body(bytes), MAP_TYPE, null, null).block();
+    }
+
+    private Flux<DataBuffer> body(byte[] bytes) {
+        return Flux.just(bufferFactory.wrap(bytes));
+    }
+}
@@ -0,0 +1,18 @@
+package org.ject.recreation.benchmark;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.OutputStreamAppender;
+
+import java.io.OutputStream;
+
+/**
+ * encoder 로 이벤트를 바이트까지 만든 뒤 버리는 appender. 메시지 포맷팅과 인코딩 비용은 측정에 넣고 I/O 는 뺀다.
+ */
+public class NullOutputStreamAppender extends OutputStreamAppender<ILoggingEvent> {
+
+    @Override
+    public void start() {
+        setOutputStream(OutputStream.nullOutputStream());
+        super.start();
+    }
+}
@@ -0,0 +1,66 @@
+package org.ject.recreation.benchmark;
+
+import org.ject.recreation.core.api.controller.session.HttpSessionLoginSessionManager;
+import org.ject.recreation.core.api.controller.session.LoginSessionManager;
+import org.ject.recreation.core.api.controller.session.SessionUserEmail;
+import org.ject.recreation.core.api.controller.session.SessionUserEmailArgumentResolver;
+import org.ject.recreation.core.api.controller.session.SignedTokenLoginSessionManager;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.MethodParameter;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.time.Duration;
+import java.util.Base64;
+
+/**
+ * 로그인이 필요한 요청마다 호출되는 @SessionUserEmail 해석 비용을 세션 모드별로 잰다.
+ */
+@State(Scope.Thread)
+public class SessionUserEmailResolverBenchmark {
+
+    private static final String EMAIL = "user@example.com";
+
+    @Param({"servlet", "token"})
+    private String mode;
+
+    private SessionUserEmailArgumentResolver resolver;
+
+    private MethodParameter parameter;
+
+    private ServletWebRequest webRequest;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        LoginSessionManager loginSessionManager = switch (mode) {
+            case "servlet" -> new HttpSessionLoginSessionManager();
+            case "token" -> new SignedTokenLoginSessionManager(
+                    "k1:" + Base64.getEncoder().encodeToString(new byte[32]), "k1", Duration.ofDays(14),
+                    "RC_SESSION", true);
+            default -> throw new IllegalArgumentException(mode);
+        };
+        resolver = new SessionUserEmailArgumentResolver(loginSessionManager);
+        parameter = new MethodParameter(
+                SessionUserEmailResolverBenchmark.class.getDeclaredMethod("handler", String.class), 0);
+
+        // 로그인 응답에서 발급된 세션/쿠키를 그대로 다음 요청에 싣는다
+        MockHttpServletRequest loginRequest = new MockHttpServletRequest();
+        MockHttpServletResponse loginResponse = new MockHttpServletResponse();
+        loginSessionManager.login(loginRequest, loginResponse, EMAIL);
+
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/sample");
+        request.setSession(loginRequest.getSession(false));
+        request.setCookies(loginResponse.getCookies());
+        webRequest = new ServletWebRequest(request);
+    }
+
+    @Benchmark
+    public Object resolveArgument() {
+        return resolver.resolveArgument(parameter, null, webRequest, null);
+    }
+
+    @SuppressWarnings("unused")
+    private void handler(@SessionUserEmail String email) {
+    }
+}
@@ -0,0 +1,25 @@
+package org.ject.recreation.benchmark;
+
+import org.ject.recreation.storage.db.core.TsidGenerator;
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * 여러 스레드가 같은 TsidGenerator 를 두드릴 때 CAS 경합 비용.
+ */
+@State(Scope.Benchmark)
+public class TsidGeneratorBenchmark {
+
+    private final TsidGenerator generator = new TsidGenerator(1);
+
+    @Benchmark
+    @Threads(1)
+    public long singleThread() {
+        return generator.next();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public long eightThreads() {
+        return generator.next();
+    }
+}
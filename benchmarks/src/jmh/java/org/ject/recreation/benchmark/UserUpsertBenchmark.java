@@ -0,0 +1,92 @@
+package org.ject.recreation.benchmark;
+
+import org.ject.recreation.storage.db.core.User;
+import org.ject.recreation.storage.db.core.UserWriter;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.ComponentScan;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * SocialLoginService.saveOrUpdateUser 와 같은 경로(User 생성 후 UserWriter.upsert)를 in-memory H2 에 대해 잰다.
+ * newUser 는 처음 로그인하는 사용자(캐시 miss, 즉시 저장 후 저장된 행 조회), returningUser 는 재로그인 사용자다.
+ */
+@State(Scope.Benchmark)
+public class UserUpsertBenchmark {
+
+    private static final int RETURNING_USERS = 1_000;
+
+    @Param({"false", "true"})
+    private boolean writeBehind;
+
+    private ConfigurableApplicationContext context;
+
+    private UserWriter userWriter;
+
+    private final AtomicLong sequence = new AtomicLong();
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(StorageContext.class)
+                .web(WebApplicationType.NONE)
+                .run("--storage.datasource.core.jdbc-url=jdbc:h2:mem:bench;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--storage.datasource.core.username=sa",
+                        "--storage.tsid.node-id=0",
+                        "--storage.datasource.core.pool-name=bench-db-pool",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.open-in-view=false",
+                        "--storage.user-cache.maximum-size=10000",
+                        "--storage.user-cache.expire-after-write=10m",
+                        "--storage.user-write-behind.enabled=" + writeBehind,
+                        "--storage.user-write-behind.flush-interval-ms=200",
+                        "--storage.user-write-behind.batch-size=500");
+        userWriter = context.getBean(UserWriter.class);
+
+        // 재로그인 사용자는 첫 로그인만 해 둔다 (캐시에는 upsert 가 올림)
+        for (int i = 0; i < RETURNING_USERS; i++) {
+            userWriter.upsert(user("returning-" + i + "@example.com"));
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public User newUser() {
+        User user = user("new-" + sequence.incrementAndGet() + "@example.com");
+        userWriter.upsert(user);
+        return user;
+    }
+
+    @Benchmark
+    public User returningUser() {
+        User user = user("returning-" + (sequence.incrementAndGet() % RETURNING_USERS) + "@example.com");
+        userWriter.upsert(user);
+        return user;
+    }
+
+    private static User user(String email) {
+        LocalDateTime now = LocalDateTime.now();
+        return new User(email, "kakao", "https://k.kakaocdn.net/dn/profile/img_640x640.jpg", "nickname", now, now);
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EnableScheduling
+    @EntityScan(basePackageClasses = User.class)
+    @EnableJpaRepositories(basePackageClasses = User.class)
+    @ComponentScan(basePackageClasses = User.class)
+    static class StorageContext {
+    }
+}
@@ -0,0 +1,19 @@
+package org.ject.recreation.benchmark.controller;
+
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+
+/**
+ * HttpRequestLoggingAspect 의 pointcut(controller 패키지 + mapping 어노테이션)에 걸리도록 만든 컨트롤러.
+ */
+public class BenchmarkController {
+
+    @PostMapping("/api/v1/social-login")
+    public ApiResponse<?> login(@RequestBody LoginRequest request) {
+        return ApiResponse.success();
+    }
+
+    public record LoginRequest(String code, String type) {
+    }
+}
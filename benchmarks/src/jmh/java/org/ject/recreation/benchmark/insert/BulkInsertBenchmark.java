@@ -0,0 +1,81 @@
+package org.ject.recreation.benchmark.insert;
+
+import jakarta.persistence.EntityManager;
+import org.ject.recreation.storage.db.core.TsidConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.SpringBootConfiguration;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.EnableAutoConfiguration;
+import org.springframework.boot.autoconfigure.domain.EntityScan;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 한 트랜잭션에서 엔티티 rows 개를 persist 할 때 IDENTITY 와 @Tsid 를 비교한다.
+ * IDENTITY 는 persist 마다 insert 가 바로 나가고, @Tsid 는 flush 때 batch_size 단위로 묶여 나간다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(java.util.concurrent.TimeUnit.MILLISECONDS)
+public class BulkInsertBenchmark {
+
+    @Param({"1000"})
+    private int rows;
+
+    private ConfigurableApplicationContext context;
+
+    private EntityManager entityManager;
+
+    private TransactionTemplate transactionTemplate;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(InsertContext.class)
+                .web(WebApplicationType.NONE)
+                .run("--spring.datasource.url=jdbc:h2:mem:bulk-insert;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                        "--spring.datasource.username=sa",
+                        "--storage.tsid.node-id=0",
+                        "--spring.jpa.hibernate.ddl-auto=create",
+                        "--spring.jpa.open-in-view=false",
+                        "--spring.jpa.properties.hibernate.jdbc.batch_size=100",
+                        "--spring.jpa.properties.hibernate.order_inserts=true");
+        entityManager = context.getBean(EntityManager.class);
+        transactionTemplate = context.getBean(TransactionTemplate.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public void identity() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(new IdentityRow("row-" + i));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    @Benchmark
+    public void tsid() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 0; i < rows; i++) {
+                entityManager.persist(new TsidRow("row-" + i));
+            }
+            entityManager.flush();
+            entityManager.clear();
+        });
+    }
+
+    @SpringBootConfiguration
+    @EnableAutoConfiguration
+    @EntityScan(basePackageClasses = BulkInsertBenchmark.class)
+    @Import(TsidConfig.class)
+    static class InsertContext {
+    }
+}
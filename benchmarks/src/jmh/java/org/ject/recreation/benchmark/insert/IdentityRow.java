@@ -0,0 +1,22 @@
+package org.ject.recreation.benchmark.insert;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+
+@Entity
+public class IdentityRow {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    private String payload;
+
+    protected IdentityRow() {
+    }
+
+    public IdentityRow(String payload) {
+        this.payload = payload;
+    }
+}
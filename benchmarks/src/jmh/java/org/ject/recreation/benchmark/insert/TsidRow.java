@@ -0,0 +1,21 @@
+package org.ject.recreation.benchmark.insert;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import org.ject.recreation.storage.db.core.Tsid;
+
+@Entity
+public class TsidRow {
+    @Id
+    @Tsid
+    private Long id;
+
+    private String payload;
+
+    protected TsidRow() {
+    }
+
+    public TsidRow(String payload) {
+        this.payload = payload;
+    }
+}
@@ -0,0 +1,50 @@
+package org.ject.recreation.client.kakao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import reactor.core.publisher.Mono;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * 호스트별 동시 호출 수를 제한한다. 한도를 넘는 호출은 기다리지 않고 바로 실패시켜서
+ * 느린 Kakao 응답이 요청 스레드와 커넥션을 모두 붙잡지 않도록 한다.
+ */
+public class KakaoBulkhead {
+
+    private final String name;
+
+    private final Semaphore permits;
+
+    private final Counter rejected;
+
+    public KakaoBulkhead(String name, int maxInFlight, MeterRegistry registry) {
+        this.name = name;
+        this.permits = new Semaphore(maxInFlight);
+        this.rejected = Counter.builder("kakao.client.bulkhead.rejected")
+                .tag("host", name)
+                .register(registry);
+        Gauge.builder("kakao.client.bulkhead.in-flight", permits, semaphore -> maxInFlight - semaphore.availablePermits())
+                .tag("host", name)
+                .register(registry);
+    }
+
+    public <T> Mono<T> execute(Supplier<Mono<T>> call) {
+        return Mono.defer(() -> {
+            if (!permits.tryAcquire()) {
+                rejected.increment();
+                return Mono.error(new KakaoClientException("Too many in-flight calls to " + name));
+            }
+            Mono<T> mono;
+            try {
+                mono = call.get();
+            } catch (RuntimeException e) {
+                permits.release();
+                return Mono.error(e);
+            }
+            return mono.doFinally(signal -> permits.release());
+        });
+    }
+}
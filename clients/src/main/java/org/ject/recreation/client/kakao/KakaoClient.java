@@ -0,0 +1,138 @@
+package org.ject.recreation.client.kakao;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+
+@Component
+public class KakaoClient {
+
+    private static final String TOKEN_PATH = "/oauth/token";
+
+    private static final String USER_INFO_PATH = "/v2/user/me";
+
+    private final WebClient kakaoAuthWebClient;
+
+    private final WebClient kakaoApiWebClient;
+
+    private final KakaoBulkhead kakaoAuthBulkhead;
+
+    private final KakaoBulkhead kakaoApiBulkhead;
+
+    private final KakaoIdTokenVerifier kakaoIdTokenVerifier;
+
+    @Value("${kakao.client-id}")
+    private String kakaoClientId;
+    @Value("${kakao.redirect-uri}")
+    private String kakaoRedirectUri;
+    @Value("${kakao.client-secret:}")
+    private String kakaoClientSecret;
+
+    public KakaoClient(@Qualifier("kakaoAuthWebClient") WebClient kakaoAuthWebClient,
+                       @Qualifier("kakaoApiWebClient") WebClient kakaoApiWebClient,
+                       @Qualifier("kakaoAuthBulkhead") KakaoBulkhead kakaoAuthBulkhead,
+                       @Qualifier("kakaoApiBulkhead") KakaoBulkhead kakaoApiBulkhead,
+                       KakaoIdTokenVerifier kakaoIdTokenVerifier) {
+        this.kakaoAuthWebClient = kakaoAuthWebClient;
+        this.kakaoApiWebClient = kakaoApiWebClient;
+        this.kakaoAuthBulkhead = kakaoAuthBulkhead;
+        this.kakaoApiBulkhead = kakaoApiBulkhead;
+        this.kakaoIdTokenVerifier = kakaoIdTokenVerifier;
+    }
+
+    public KakaoTokenResponse getToken(String code) {
+        return fetchToken(code).block();
+    }
+
+    public Mono<KakaoTokenResponse> fetchToken(String code) {
+        StringBuilder bodyBuilder = new StringBuilder();
+        bodyBuilder.append("grant_type=authorization_code")
+                .append("&client_id=").append(kakaoClientId)
+                .append("&redirect_uri=").append(kakaoRedirectUri)
+                .append("&code=").append(code);
+        if (kakaoClientSecret != null && !kakaoClientSecret.isBlank()) {
+            bodyBuilder.append("&client_secret=").append(kakaoClientSecret);
+        }
+        String body = bodyBuilder.toString();
+        Mono<KakaoTokenResponse> tokenMono = kakaoAuthBulkhead.execute(() -> kakaoAuthWebClient.post()
+                .uri(TOKEN_PATH)
+                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
+                .bodyValue(body)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(KakaoResponseDecoder::decodeToken));
+        return timed("token", tokenMono);
+    }
+
+    public KakaoUserInfo getUserInfo(KakaoTokenResponse token) {
+        return fetchUserInfo(token).block();
+    }
+
+    /**
+     * OIDC 모드에서는 id_token 을 로컬에서 검증해서 쓰고, 그럴 수 없을 때만 /v2/user/me 를 호출한다.
+     */
+    public Mono<KakaoUserInfo> fetchUserInfo(KakaoTokenResponse token) {
+        return Mono.defer(() -> {
+            Optional<KakaoUserInfo> verified = kakaoIdTokenVerifier.verify(token.idToken());
+            if (verified.isPresent()) {
+                userInfoSource("id-token").increment();
+                return Mono.just(verified.get());
+            }
+            userInfoSource("api").increment();
+            return fetchUserInfo(token.accessToken());
+        });
+    }
+
+    public KakaoUserInfo getUserInfo(String accessToken) {
+        return fetchUserInfo(accessToken).block();
+    }
+
+    public Mono<KakaoUserInfo> fetchUserInfo(String accessToken) {
+        Mono<KakaoUserInfo> userMono = kakaoApiBulkhead.execute(() -> kakaoApiWebClient.get()
+                .uri(USER_INFO_PATH)
+                .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
+                .retrieve()
+                .bodyToFlux(DataBuffer.class)
+                .as(KakaoResponseDecoder::decodeUserInfo));
+        return timed("user-info", userMono);
+    }
+
+    private <T> Mono<T> timed(String api, Mono<T> call) {
+        return Mono.defer(() -> {
+            Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+            return call
+                    .onErrorMap(WebClientRequestException.class,
+                            e -> new KakaoClientException("Kakao " + api + " request failed", e))
+                    .doOnSuccess(result -> sample.stop(timer(api, "success")))
+                    .doOnError(e -> sample.stop(timer(api, outcome(e))));
+        });
+    }
+
+    private Counter userInfoSource(String source) {
+        return Counter.builder("kakao.client.user-info.source")
+                .tag("source", source)
+                .register(Metrics.globalRegistry);
+    }
+
+    private Timer timer(String api, String outcome) {
+        return Timer.builder("kakao.client.requests")
+                .tag("api", api)
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry);
+    }
+
+    private String outcome(Throwable e) {
+        return e instanceof KakaoClientException ? "unavailable" : "error";
+    }
+}
@@ -0,0 +1,102 @@
+package org.ject.recreation.client.kakao;
+
+import io.micrometer.core.instrument.Metrics;
+import io.netty.channel.ChannelOption;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+@Configuration
+public class KakaoClientConfig {
+
+    @Value("${kakao.auth-base-url}")
+    private String authBaseUrl;
+
+    @Value("${kakao.api-base-url}")
+    private String apiBaseUrl;
+
+    @Value("${kakao.http.connect-timeout}")
+    private Duration connectTimeout;
+
+    @Value("${kakao.http.response-timeout}")
+    private Duration responseTimeout;
+
+    @Value("${kakao.http.pending-acquire-timeout}")
+    private Duration pendingAcquireTimeout;
+
+    @Value("${kakao.http.max-idle-time}")
+    private Duration maxIdleTime;
+
+    @Value("${kakao.http.max-life-time}")
+    private Duration maxLifeTime;
+
+    @Bean
+    public WebClient kakaoAuthWebClient(@Value("${kakao.http.auth.max-connections}") int maxConnections,
+                                        @Value("${kakao.http.auth.pending-acquire-max-count}") int pendingAcquireMaxCount) {
+        return createWebClient("kakao-auth", authBaseUrl, maxConnections, pendingAcquireMaxCount);
+    }
+
+    @Bean
+    public WebClient kakaoApiWebClient(@Value("${kakao.http.api.max-connections}") int maxConnections,
+                                       @Value("${kakao.http.api.pending-acquire-max-count}") int pendingAcquireMaxCount) {
+        return createWebClient("kakao-api", apiBaseUrl, maxConnections, pendingAcquireMaxCount);
+    }
+
+    // 프로필 이미지는 요청마다 호스트가 달라질 수 있어서 baseUrl 없이 절대 URL 로 호출
+    @Bean
+    public WebClient kakaoCdnWebClient(@Value("${kakao.http.cdn.max-connections}") int maxConnections,
+                                       @Value("${kakao.http.cdn.pending-acquire-max-count}") int pendingAcquireMaxCount,
+                                       @Value("${kakao.profile-image.max-bytes}") DataSize maxBytes) {
+        return createWebClient("kakao-cdn", null, maxConnections, pendingAcquireMaxCount).mutate()
+                .codecs(codecs -> codecs.defaultCodecs().maxInMemorySize((int) maxBytes.toBytes()))
+                .build();
+    }
+
+    @Bean
+    public KakaoBulkhead kakaoAuthBulkhead(@Value("${kakao.http.auth.max-in-flight}") int maxInFlight) {
+        return new KakaoBulkhead("kakao-auth", maxInFlight, Metrics.globalRegistry);
+    }
+
+    @Bean
+    public KakaoBulkhead kakaoApiBulkhead(@Value("${kakao.http.api.max-in-flight}") int maxInFlight) {
+        return new KakaoBulkhead("kakao-api", maxInFlight, Metrics.globalRegistry);
+    }
+
+    @Bean
+    public KakaoBulkhead kakaoCdnBulkhead(@Value("${kakao.http.cdn.max-in-flight}") int maxInFlight) {
+        return new KakaoBulkhead("kakao-cdn", maxInFlight, Metrics.globalRegistry);
+    }
+
+    private WebClient createWebClient(String name, String baseUrl, int maxConnections, int pendingAcquireMaxCount) {
+        // 호스트마다 별도의 풀을 둬서 한쪽이 느려져도 다른 쪽 커넥션을 잠식하지 않도록 함
+        ConnectionProvider connectionProvider = ConnectionProvider.builder(name)
+                .maxConnections(maxConnections)
+                .pendingAcquireMaxCount(pendingAcquireMaxCount)
+                .pendingAcquireTimeout(pendingAcquireTimeout)
+                .maxIdleTime(maxIdleTime)
+                .maxLifeTime(maxLifeTime)
+                .evictInBackground(Duration.ofSeconds(30))
+                .metrics(true)
+                .build();
+
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, (int) connectTimeout.toMillis())
+                .option(ChannelOption.SO_KEEPALIVE, true)
+                .keepAlive(true)
+                .responseTimeout(responseTimeout)
+                .metrics(true, Function.identity());
+
+        return WebClient.builder()
+                .baseUrl(baseUrl)
+                .clientConnector(new ReactorClientHttpConnector(httpClient))
+                .build();
+    }
+}
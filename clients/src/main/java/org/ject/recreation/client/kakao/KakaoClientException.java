@@ -0,0 +1,12 @@
+package org.ject.recreation.client.kakao;
+
+public class KakaoClientException extends RuntimeException {
+
+    public KakaoClientException(String message) {
+        super(message);
+    }
+
+    public KakaoClientException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,51 @@
+package org.ject.recreation.client.kakao;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.net.URI;
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * kauth/kapi 호스트에 TCP 연결만 맺어 보고 끊는다. 요청을 보내지 않으므로 Kakao 쪽 호출 한도를 쓰지 않는다.
+ */
+@Component
+public class KakaoConnectivityProbe {
+
+    private final List<InetSocketAddress> endpoints;
+
+    private final int connectTimeoutMillis;
+
+    public KakaoConnectivityProbe(@Value("${kakao.auth-base-url}") String authBaseUrl,
+                                  @Value("${kakao.api-base-url}") String apiBaseUrl,
+                                  @Value("${kakao.http.connect-timeout}") Duration connectTimeout) {
+        this.endpoints = List.of(toAddress(authBaseUrl), toAddress(apiBaseUrl));
+        this.connectTimeoutMillis = (int) connectTimeout.toMillis();
+    }
+
+    /**
+     * 연결에 실패한 호스트가 있으면 그 주소를, 모두 연결되면 null 을 돌려준다.
+     */
+    public String findUnreachable() {
+        for (InetSocketAddress endpoint : endpoints) {
+            // 매번 새로 resolve 해서 DNS 변경이나 장애도 함께 확인
+            InetSocketAddress resolved = new InetSocketAddress(endpoint.getHostString(), endpoint.getPort());
+            try (Socket socket = new Socket()) {
+                socket.connect(resolved, connectTimeoutMillis);
+            } catch (IOException e) {
+                return endpoint.getHostString() + ":" + endpoint.getPort() + " (" + e.getMessage() + ")";
+            }
+        }
+        return null;
+    }
+
+    private static InetSocketAddress toAddress(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        int port = uri.getPort() != -1 ? uri.getPort() : ("https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80);
+        return InetSocketAddress.createUnresolved(uri.getHost(), port);
+    }
+}
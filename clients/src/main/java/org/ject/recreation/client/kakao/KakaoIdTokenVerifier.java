@@ -0,0 +1,185 @@
+package org.ject.recreation.client.kakao;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.spec.RSAPublicKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 토큰 응답의 id_token(RS256)을 JWKS 로 직접 검증해서 사용자 정보를 꺼낸다.
+ * JWKS 는 메모리에 두고, 모르는 kid 가 오면 백그라운드에서 다시 받는다 (그동안의 로그인은 /v2/user/me 로 처리).
+ * 검증에 실패하거나 필요한 claim 이 없으면 빈 값을 돌려주고 호출하는 쪽이 user-info 호출로 넘어간다.
+ */
+@Slf4j
+@Component
+public class KakaoIdTokenVerifier {
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    private static final Base64.Decoder BASE64_URL = Base64.getUrlDecoder();
+
+    private final WebClient kakaoAuthWebClient;
+
+    private final boolean enabled;
+
+    private final String issuer;
+
+    private final String audience;
+
+    private final String jwksPath;
+
+    private final Duration minRefreshInterval;
+
+    private final Duration clockSkew;
+
+    private volatile Map<String, PublicKey> keys = Map.of();
+
+    private volatile Instant lastRefreshAt = Instant.EPOCH;
+
+    private final AtomicBoolean refreshing = new AtomicBoolean();
+
+    public KakaoIdTokenVerifier(@Qualifier("kakaoAuthWebClient") WebClient kakaoAuthWebClient,
+                                @Value("${kakao.oidc.enabled}") boolean enabled,
+                                @Value("${kakao.oidc.issuer}") String issuer,
+                                @Value("${kakao.client-id}") String audience,
+                                @Value("${kakao.oidc.jwks-path}") String jwksPath,
+                                @Value("${kakao.oidc.jwks-min-refresh-interval}") Duration minRefreshInterval,
+                                @Value("${kakao.oidc.clock-skew}") Duration clockSkew) {
+        this.kakaoAuthWebClient = kakaoAuthWebClient;
+        this.enabled = enabled;
+        this.issuer = issuer;
+        this.audience = audience;
+        this.jwksPath = jwksPath;
+        this.minRefreshInterval = minRefreshInterval;
+        this.clockSkew = clockSkew;
+        if (enabled) {
+            refreshKeys();
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public Optional<KakaoUserInfo> verify(String idToken) {
+        if (!enabled || idToken == null) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.ofNullable(verifyAndRead(idToken, Instant.now()));
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("Kakao id_token verification failed, falling back to user info : {}", e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private KakaoUserInfo verifyAndRead(String idToken, Instant now) throws IOException, GeneralSecurityException {
+        int firstDot = idToken.indexOf('.');
+        int secondDot = idToken.indexOf('.', firstDot + 1);
+        if (firstDot < 0 || secondDot < 0 || idToken.indexOf('.', secondDot + 1) >= 0) {
+            throw new IllegalArgumentException("Malformed id_token");
+        }
+        JsonNode header = OBJECT_MAPPER.readTree(BASE64_URL.decode(idToken.substring(0, firstDot)));
+        if (!"RS256".equals(header.path("alg").asText())) {
+            throw new IllegalArgumentException("Unsupported id_token alg " + header.path("alg").asText());
+        }
+        String kid = header.path("kid").asText();
+        PublicKey key = keys.get(kid);
+        if (key == null) {
+            // 키 교체 직후. 이번 로그인은 user-info 로 처리하고 키는 백그라운드에서 다시 받음
+            refreshKeys();
+            return null;
+        }
+
+        Signature signature = Signature.getInstance("SHA256withRSA");
+        signature.initVerify(key);
+        signature.update(idToken.substring(0, secondDot).getBytes(StandardCharsets.US_ASCII));
+        if (!signature.verify(BASE64_URL.decode(idToken.substring(secondDot + 1)))) {
+            throw new GeneralSecurityException("Invalid id_token signature");
+        }
+
+        JsonNode claims = OBJECT_MAPPER.readTree(BASE64_URL.decode(idToken.substring(firstDot + 1, secondDot)));
+        if (!issuer.equals(claims.path("iss").asText())) {
+            throw new IllegalArgumentException("Unexpected id_token issuer " + claims.path("iss").asText());
+        }
+        if (!hasAudience(claims.path("aud"))) {
+            throw new IllegalArgumentException("Unexpected id_token audience");
+        }
+        if (!claims.path("exp").canConvertToLong()
+                || Instant.ofEpochSecond(claims.path("exp").asLong()).plus(clockSkew).isBefore(now)) {
+            throw new IllegalArgumentException("Expired id_token");
+        }
+
+        String email = claims.path("email").asText(null);
+        String nickname = claims.path("nickname").asText(null);
+        if (email == null || nickname == null) {
+            // 동의 항목에 따라 claim 이 빠질 수 있음
+            return null;
+        }
+        return new KakaoUserInfo(email, nickname, claims.path("picture").asText(null));
+    }
+
+    private boolean hasAudience(JsonNode aud) {
+        if (aud.isArray()) {
+            for (JsonNode value : aud) {
+                if (audience.equals(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return audience.equals(aud.asText());
+    }
+
+    // 위조된 kid 로 JWKS 를 계속 받게 만들 수 없도록 최소 간격을 두고, 동시에 하나만 받음
+    private void refreshKeys() {
+        if (Instant.now().isBefore(lastRefreshAt.plus(minRefreshInterval)) || !refreshing.compareAndSet(false, true)) {
+            return;
+        }
+        lastRefreshAt = Instant.now();
+        kakaoAuthWebClient.get()
+                .uri(jwksPath)
+                .retrieve()
+                .bodyToMono(String.class)
+                .doFinally(signal -> refreshing.set(false))
+                .subscribe(this::updateKeys, e -> log.warn("Failed to refresh Kakao JWKS : {}", e.getMessage()));
+    }
+
+    private void updateKeys(String jwks) {
+        try {
+            Map<String, PublicKey> updated = new HashMap<>();
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            for (JsonNode jwk : OBJECT_MAPPER.readTree(jwks).path("keys")) {
+                if (!"RSA".equals(jwk.path("kty").asText()) || jwk.path("kid").isMissingNode()) {
+                    continue;
+                }
+                BigInteger modulus = new BigInteger(1, BASE64_URL.decode(jwk.path("n").asText()));
+                BigInteger exponent = new BigInteger(1, BASE64_URL.decode(jwk.path("e").asText()));
+                updated.put(jwk.path("kid").asText(), keyFactory.generatePublic(new RSAPublicKeySpec(modulus, exponent)));
+            }
+            keys = Map.copyOf(updated);
+            log.info("Loaded {} Kakao JWKS keys", updated.size());
+        } catch (IOException | GeneralSecurityException | IllegalArgumentException e) {
+            log.warn("Failed to parse Kakao JWKS : {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package org.ject.recreation.client.kakao;
+
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Kakao CDN 의 프로필 이미지 원본을 받아온다.
+ * 허용된 도메인의 http(s) URL 만 요청하며, 크기 상한은 kakaoCdnWebClient 의 codec 설정으로 제한된다.
+ */
+@Component
+public class KakaoProfileImageClient {
+
+    private final WebClient kakaoCdnWebClient;
+
+    private final KakaoBulkhead kakaoCdnBulkhead;
+
+    private final List<String> allowedHostSuffixes;
+
+    public KakaoProfileImageClient(@Qualifier("kakaoCdnWebClient") WebClient kakaoCdnWebClient,
+                                   @Qualifier("kakaoCdnBulkhead") KakaoBulkhead kakaoCdnBulkhead,
+                                   @Value("${kakao.profile-image.allowed-host-suffixes}") String allowedHostSuffixes) {
+        this.kakaoCdnWebClient = kakaoCdnWebClient;
+        this.kakaoCdnBulkhead = kakaoCdnBulkhead;
+        this.allowedHostSuffixes = Arrays.stream(allowedHostSuffixes.split(","))
+                .map(String::trim)
+                .filter(suffix -> !suffix.isEmpty())
+                .map(suffix -> suffix.toLowerCase(Locale.ROOT))
+                .toList();
+    }
+
+    public boolean isAllowed(String url) {
+        URI uri;
+        try {
+            uri = URI.create(url);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        String scheme = uri.getScheme();
+        String host = uri.getHost();
+        if (host == null || !("https".equalsIgnoreCase(scheme) || "http".equalsIgnoreCase(scheme))) {
+            return false;
+        }
+        String normalized = host.toLowerCase(Locale.ROOT);
+        return allowedHostSuffixes.stream()
+                .anyMatch(suffix -> normalized.equals(suffix) || normalized.endsWith("." + suffix));
+    }
+
+    public byte[] download(String url) {
+        if (!isAllowed(url)) {
+            throw new KakaoClientException("Profile image host is not allowed: " + url);
+        }
+        Mono<byte[]> imageMono = kakaoCdnBulkhead.execute(() -> kakaoCdnWebClient.get()
+                .uri(URI.create(url))
+                .retrieve()
+                .bodyToMono(byte[].class));
+        Timer.Sample sample = Timer.start(Metrics.globalRegistry);
+        byte[] image;
+        try {
+            image = imageMono.block();
+        } catch (KakaoClientException e) {
+            sample.stop(timer("unavailable"));
+            throw e;
+        } catch (RuntimeException e) {
+            // 4xx/5xx, 크기 초과, 연결 실패 모두 호출 측에서는 "받을 수 없음" 으로 같게 다룸
+            sample.stop(timer("error"));
+            throw new KakaoClientException("Profile image download failed: " + url, e);
+        }
+        sample.stop(timer("success"));
+        if (image == null || image.length == 0) {
+            throw new KakaoClientException("Empty profile image: " + url);
+        }
+        return image;
+    }
+
+    private Timer timer(String outcome) {
+        return Timer.builder("kakao.client.requests")
+                .tag("api", "profile-image")
+                .tag("outcome", outcome)
+                .register(Metrics.globalRegistry);
+    }
+}
@@ -0,0 +1,118 @@
+package org.ject.recreation.client.kakao;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.springframework.core.codec.DecodingException;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Kakao 응답에서 실제로 쓰는 필드만 스트리밍으로 읽는다.
+ * 나머지 값은 skipChildren() 으로 건너뛰기 때문에 Map 트리를 만들지 않는다.
+ */
+public final class KakaoResponseDecoder {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private KakaoResponseDecoder() {
+    }
+
+    public static Mono<KakaoTokenResponse> decodeToken(Flux<DataBuffer> body) {
+        return decode(body, KakaoResponseDecoder::readToken);
+    }
+
+    public static Mono<KakaoUserInfo> decodeUserInfo(Flux<DataBuffer> body) {
+        return decode(body, KakaoResponseDecoder::readUserInfo);
+    }
+
+    public static KakaoTokenResponse readToken(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            expectObject(parser.nextToken());
+            String accessToken = null;
+            String idToken = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                if ("access_token".equals(field)) {
+                    accessToken = parser.getValueAsString();
+                } else if ("id_token".equals(field)) {
+                    idToken = parser.getValueAsString();
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return new KakaoTokenResponse(accessToken, idToken);
+        }
+    }
+
+    public static KakaoUserInfo readUserInfo(InputStream in) throws IOException {
+        try (JsonParser parser = JSON_FACTORY.createParser(in)) {
+            expectObject(parser.nextToken());
+            KakaoUserInfo userInfo = new KakaoUserInfo(null, null, null);
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                if (parser.nextToken() == JsonToken.START_OBJECT && "kakao_account".equals(field)) {
+                    userInfo = readKakaoAccount(parser);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            return userInfo;
+        }
+    }
+
+    private static KakaoUserInfo readKakaoAccount(JsonParser parser) throws IOException {
+        String email = null;
+        String nickname = null;
+        String profileImageUrl = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("email".equals(field)) {
+                email = parser.getValueAsString();
+            } else if ("profile".equals(field) && value == JsonToken.START_OBJECT) {
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    String profileField = parser.currentName();
+                    parser.nextToken();
+                    if ("nickname".equals(profileField)) {
+                        nickname = parser.getValueAsString();
+                    } else if ("profile_image_url".equals(profileField)) {
+                        profileImageUrl = parser.getValueAsString();
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return new KakaoUserInfo(email, nickname, profileImageUrl);
+    }
+
+    private static void expectObject(JsonToken token) {
+        if (token != JsonToken.START_OBJECT) {
+            throw new DecodingException("Expected JSON object but was " + token);
+        }
+    }
+
+    private static <T> Mono<T> decode(Flux<DataBuffer> body, Reader<T> reader) {
+        return DataBufferUtils.join(body).map(buffer -> {
+            try (InputStream in = buffer.asInputStream(true)) {
+                return reader.read(in);
+            } catch (IOException e) {
+                throw new DecodingException("Failed to decode Kakao response", e);
+            }
+        });
+    }
+
+    @FunctionalInterface
+    private interface Reader<T> {
+        T read(InputStream in) throws IOException;
+    }
+}
@@ -0,0 +1,5 @@
+package org.ject.recreation.client.kakao;
+
+// idToken 은 인가 요청에 scope=openid 가 있었을 때만 내려옴
+public record KakaoTokenResponse(String accessToken, String idToken) {
+}
@@ -0,0 +1,4 @@
+package org.ject.recreation.client.kakao;
+
+public record KakaoUserInfo(String email, String nickname, String profileImageUrl) {
+}
@@ -0,0 +1,158 @@
+package org.ject.recreation.core.api.controller;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.core.api.controller.response.UserPageResponseDto;
+import org.ject.recreation.core.api.controller.response.UserResponseDto;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.ject.recreation.storage.db.core.User;
+import org.ject.recreation.storage.db.core.UserReader;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+
+// /admin/** 는 AdminAccessInterceptor 를 통과해야 함
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminUserController {
+    private static final String CSV_HEADER = "email,platform,profile_image_url,nickname,created_at,updated_at\n";
+
+    private final UserReader userReader;
+    private final ObjectMapper objectMapper;
+
+    @Value("${admin.users.max-page-size}")
+    private int maxPageSize;
+
+    // email 순 keyset 페이지. cursor 는 이전 응답의 nextCursor
+    @GetMapping("/admin/users")
+    public ApiResponse<UserPageResponseDto> list(@RequestParam(required = false) String cursor,
+                                                 @RequestParam(defaultValue = "100") int size) {
+        if (size < 1 || size > maxPageSize) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "size must be between 1 and " + maxPageSize);
+        }
+        // 다음 페이지가 있는지 알기 위해 한 건 더 읽음
+        List<User> users = userReader.findPage(decodeCursor(cursor), size + 1);
+        boolean hasNext = users.size() > size;
+        List<User> page = hasNext ? users.subList(0, size) : users;
+        String nextCursor = hasNext ? encodeCursor(page.get(page.size() - 1).getEmail()) : null;
+        return ApiResponse.success(new UserPageResponseDto(page.stream().map(UserResponseDto::from).toList(), nextCursor));
+    }
+
+    // 전체(또는 cursor 이후) 사용자를 DB 커서에서 읽는 대로 응답에 씀. 메모리 사용량은 행 수와 무관
+    @GetMapping("/admin/users/export")
+    public void export(@RequestParam(defaultValue = "csv") String format,
+                       @RequestParam(required = false) String cursor,
+                       HttpServletResponse response) throws IOException {
+        String afterEmail = decodeCursor(cursor);
+        switch (format) {
+            case "csv" -> exportCsv(afterEmail, response);
+            case "json" -> exportJson(afterEmail, response);
+            default -> throw new CoreException(ErrorType.INVALID_REQUEST, "format must be csv or json");
+        }
+    }
+
+    private void exportCsv(String afterEmail, HttpServletResponse response) throws IOException {
+        response.setContentType("text/csv;charset=UTF-8");
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.csv\"");
+        Writer writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8),
+                64 * 1024);
+        writer.write(CSV_HEADER);
+        userReader.export(afterEmail, user -> {
+            try {
+                writeCsvRow(writer, user);
+            } catch (IOException e) {
+                // 클라이언트가 끊으면 여기서 중단되고 DB 커서도 닫힘
+                throw new UncheckedIOException(e);
+            }
+        });
+        writer.flush();
+    }
+
+    private void exportJson(String afterEmail, HttpServletResponse response) throws IOException {
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"users.json\"");
+        JsonGenerator generator = objectMapper.getFactory().createGenerator(response.getOutputStream());
+        generator.writeStartArray();
+        userReader.export(afterEmail, user -> {
+            try {
+                generator.writeStartObject();
+                generator.writeStringField("email", user.getEmail());
+                generator.writeStringField("platform", user.getPlatform());
+                generator.writeStringField("profileImageUrl", user.getProfileImageUrl());
+                generator.writeStringField("nickname", user.getNickname());
+                generator.writeStringField("createdAt", String.valueOf(user.getCreatedAt()));
+                generator.writeStringField("updatedAt", String.valueOf(user.getUpdatedAt()));
+                generator.writeEndObject();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        generator.writeEndArray();
+        generator.flush();
+    }
+
+    private static void writeCsvRow(Writer writer, User user) throws IOException {
+        writeCsvField(writer, user.getEmail());
+        writer.write(',');
+        writeCsvField(writer, user.getPlatform());
+        writer.write(',');
+        writeCsvField(writer, user.getProfileImageUrl());
+        writer.write(',');
+        writeCsvField(writer, user.getNickname());
+        writer.write(',');
+        writer.write(String.valueOf(user.getCreatedAt()));
+        writer.write(',');
+        writer.write(String.valueOf(user.getUpdatedAt()));
+        writer.write('\n');
+    }
+
+    private static void writeCsvField(Writer writer, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        // 스프레드시트에서 열었을 때 수식으로 실행되지 않도록 앞에 ' 를 붙임
+        if (!value.isEmpty() && "=+-@\t\r".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0 && value.indexOf('\r') < 0) {
+            writer.write(value);
+            return;
+        }
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private static String encodeCursor(String email) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(email.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        if (cursor == null || cursor.isEmpty()) {
+            return null;
+        }
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new CoreException(ErrorType.INVALID_REQUEST, "invalid cursor");
+        }
+    }
+}
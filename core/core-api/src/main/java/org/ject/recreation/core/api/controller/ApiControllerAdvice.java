@@ -1,33 +1,98 @@
 package org.ject.recreation.core.api.controller;
 
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
 import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorLogThrottle;
 import org.ject.recreation.core.support.error.ErrorType;
 import org.ject.recreation.core.support.response.ApiResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.logging.LogLevel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
 @RestControllerAdvice
 public class ApiControllerAdvice {
 
     private final Logger log = LoggerFactory.getLogger(getClass());
 
+    // 같은 오류가 쏟아질 때 스택 트레이스를 수천 번 찍지 않도록 종류 + 발생 위치별로 묶어서 남김
+    private final ErrorLogThrottle errorLogThrottle;
+
+    private final Map<ErrorType, Counter> errorCounters = new EnumMap<>(ErrorType.class);
+
+    public ApiControllerAdvice(@Value("${logging.error-throttle.interval}") Duration interval,
+                               @Value("${logging.error-throttle.max-keys}") int maxKeys) {
+        this.errorLogThrottle = new ErrorLogThrottle(interval.toNanos(), maxKeys);
+        for (ErrorType errorType : ErrorType.values()) {
+            errorCounters.put(errorType, Counter.builder("api.errors")
+                    .tag("code", errorType.getCode().name())
+                    .tag("type", errorType.name())
+                    .register(Metrics.globalRegistry));
+        }
+    }
+
     @ExceptionHandler(CoreException.class)
     public ResponseEntity<ApiResponse<?>> handleCoreException(CoreException e) {
-        switch (e.getErrorType().getLogLevel()) {
-            case ERROR -> log.error("CoreException : {}", e.getMessage(), e);
-            case WARN -> log.warn("CoreException : {}", e.getMessage(), e);
-            default -> log.info("CoreException : {}", e.getMessage(), e);
+        ErrorType errorType = e.getErrorType();
+        errorCounters.get(errorType).increment();
+        if (isEnabled(errorType.getLogLevel())) {
+            String callSite = e.getCallSite() != null ? e.getCallSite() : callSite(e);
+            long suppressed = errorLogThrottle.tryAcquire(errorType.name() + "@" + callSite);
+            if (suppressed >= 0) {
+                log(errorType.getLogLevel(), e, suppressed);
+            }
         }
-        return new ResponseEntity<>(ApiResponse.error(e.getErrorType(), e.getData()), e.getErrorType().getStatus());
+        return new ResponseEntity<>(ApiResponse.error(errorType, e.getData()), errorType.getStatus());
     }
 
     @ExceptionHandler(Exception.class)
     public ResponseEntity<ApiResponse<?>> handleException(Exception e) {
-        log.error("Exception : {}", e.getMessage(), e);
+        errorCounters.get(ErrorType.DEFAULT_ERROR).increment();
+        long suppressed = errorLogThrottle.tryAcquire(e.getClass().getName() + "@" + callSite(e));
+        if (suppressed >= 0) {
+            log.error("Exception : {} (suppressed {} similar)", e.getMessage(), suppressed, e);
+        }
         return new ResponseEntity<>(ApiResponse.error(ErrorType.DEFAULT_ERROR), ErrorType.DEFAULT_ERROR.getStatus());
     }
 
+    private boolean isEnabled(LogLevel level) {
+        return switch (level) {
+            case ERROR -> log.isErrorEnabled();
+            case WARN -> log.isWarnEnabled();
+            case DEBUG -> log.isDebugEnabled();
+            case TRACE -> log.isTraceEnabled();
+            case OFF -> false;
+            default -> log.isInfoEnabled();
+        };
+    }
+
+    // 스택 트레이스가 없는 예상된 오류는 message 만, 나머지는 스택까지 남김
+    private void log(LogLevel level, CoreException e, long suppressed) {
+        Object[] arguments = e.getStackTrace().length == 0
+                ? new Object[]{e.getMessage(), suppressed}
+                : new Object[]{e.getMessage(), suppressed, e};
+        switch (level) {
+            case ERROR -> log.error("CoreException : {} (suppressed {} similar)", arguments);
+            case WARN -> log.warn("CoreException : {} (suppressed {} similar)", arguments);
+            case DEBUG -> log.debug("CoreException : {} (suppressed {} similar)", arguments);
+            case TRACE -> log.trace("CoreException : {} (suppressed {} similar)", arguments);
+            default -> log.info("CoreException : {} (suppressed {} similar)", arguments);
+        }
+    }
+
+    private static String callSite(Throwable e) {
+        StackTraceElement[] stackTrace = e.getStackTrace();
+        if (stackTrace.length == 0) {
+            return "-";
+        }
+        return stackTrace[0].getClassName() + "." + stackTrace[0].getMethodName() + ":" + stackTrace[0].getLineNumber();
+    }
 }
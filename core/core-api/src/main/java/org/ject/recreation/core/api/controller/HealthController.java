@@ -1,15 +1,34 @@
 package org.ject.recreation.core.api.controller;
 
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.core.support.health.ReadinessMonitor;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
+@RequiredArgsConstructor
 public class HealthController {
+    private final ReadinessMonitor readinessMonitor;
+
     // health check용
     @GetMapping("/health")
     public ResponseEntity<Object> health() {
         return ResponseEntity.status(HttpStatus.OK).build();
     }
+
+    // 프로세스가 요청을 받을 수 있으면 항상 200 (의존성 상태와 무관, 재시작 판단용)
+    @GetMapping("/health/liveness")
+    public ResponseEntity<Object> liveness() {
+        return ResponseEntity.status(HttpStatus.OK).build();
+    }
+
+    // 백그라운드에서 확인해 둔 DB 풀, Kakao 연결, 세션 저장소 상태. 하나라도 down 이면 503 (LB 에서 제외)
+    @GetMapping("/health/readiness")
+    public ResponseEntity<ReadinessMonitor.Snapshot> readiness() {
+        ReadinessMonitor.Snapshot snapshot = readinessMonitor.getSnapshot();
+        return ResponseEntity.status(snapshot.ready() ? HttpStatus.OK : HttpStatus.SERVICE_UNAVAILABLE)
+                .body(snapshot);
+    }
 }
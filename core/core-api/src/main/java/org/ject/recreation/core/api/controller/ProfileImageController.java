@@ -0,0 +1,116 @@
+package org.ject.recreation.core.api.controller;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.core.api.controller.session.SessionUserEmail;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.image.ProfileImageCache;
+import org.ject.recreation.core.support.image.ProfileImageCache.CachedImage;
+import org.ject.recreation.storage.db.core.User;
+import org.ject.recreation.storage.db.core.UserNearCache;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.Optional;
+
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProfileImageController {
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final UserNearCache userNearCache;
+    private final ProfileImageCache profileImageCache;
+
+    @Value("${profile-image.max-age}")
+    private Duration maxAge;
+
+    // 로그인한 사용자의 프로필 썸네일. Kakao CDN 대신 로컬 디스크 캐시에서 내려줌
+    @GetMapping("/users/me/profile-image")
+    public void profileImage(@SessionUserEmail String email,
+                             HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (email == null) {
+            throw new CoreException(ErrorType.UNAUTHORIZED);
+        }
+        String url = userNearCache.findById(email).map(User::getProfileImageUrl).orElse(null);
+        if (url == null || url.isBlank()) {
+            throw new CoreException(ErrorType.NOT_FOUND);
+        }
+
+        Optional<CachedImage> image = profileImageCache.get(url);
+        if (image.isEmpty()) {
+            // 썸네일을 만들 수 없으면 원본으로 보내서 화면은 그대로 그려지도록 함
+            response.sendRedirect(url);
+            return;
+        }
+
+        String etag = "\"" + image.get().etag() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + maxAge.toSeconds());
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat 이 서블릿이 끝난 뒤 sendfile 로 커널에서 바로 소켓에 씀 (사용자 공간 복사 없음).
+            // 그 사이 LRU 에서 밀려나도 파일은 ProfileImageCache 의 delete-grace 동안 남아 있음
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(image.get().size());
+            request.setAttribute(SENDFILE_FILENAME, image.get().path().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, image.get().size());
+            return;
+        }
+
+        // sendfile 을 쓸 수 없는 커넥터/압축 응답 등. 서블릿 출력 스트림을 거치므로 힙 버퍼로 한 번 복사됨
+        FileChannel file;
+        try {
+            file = FileChannel.open(image.get().path(), StandardOpenOption.READ);
+        } catch (NoSuchFileException e) {
+            // delete-grace 보다 오래 걸린 경우. 일단 원본으로 보내고 다음 요청에서 다시 만듦
+            response.sendRedirect(url);
+            return;
+        }
+        // 한 번 연 파일은 지워져도 끝까지 읽힘
+        try (file) {
+            response.setContentType(MediaType.IMAGE_JPEG_VALUE);
+            response.setContentLengthLong(file.size());
+            WritableByteChannel out = Channels.newChannel(response.getOutputStream());
+            long position = 0;
+            long size = file.size();
+            while (position < size) {
+                position += file.transferTo(position, size - position, out);
+            }
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String trimmed = candidate.trim();
+            if (trimmed.equals("*") || trimmed.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -1,21 +1,30 @@
 package org.ject.recreation.core.api.controller;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import lombok.RequiredArgsConstructor;
 import org.ject.recreation.core.api.controller.request.SocialLoginRequestDto;
 import org.ject.recreation.core.api.controller.response.SocialLoginResponseDto;
+import org.ject.recreation.core.api.controller.session.LoginSessionManager;
 import org.ject.recreation.core.domain.SocialLoginService;
 import org.ject.recreation.core.support.response.ApiResponse;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.*;
 
 import java.io.IOException;
 
 @RestController
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SocialLoginController {
+
+    // openid 만 요청하면 id_token 에 email, nickname, picture claim 이 빠져서 매번 /v2/user/me 로 넘어감
+    static final String KAKAO_OIDC_SCOPE = "openid,account_email,profile_nickname,profile_image";
+
     private final SocialLoginService socialLoginService;
+    private final LoginSessionManager loginSessionManager;
 
     @Value("${kakao.client-id}")
     private String kakaoClientId;
@@ -23,11 +32,19 @@ public class SocialLoginController {
     @Value("${kakao.redirect-uri}")
     private String kakaoRedirectUri;
 
+    @Value("${kakao.auth-base-url}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${kakao.oidc.enabled}")
+    private boolean kakaoOidcEnabled;
+
     @PostMapping("/login/kakao")
-    public ApiResponse<SocialLoginResponseDto> login(@RequestBody SocialLoginRequestDto request, HttpSession session) {
-        SocialLoginResponseDto response = socialLoginService.loginWithKakao(request);
+    public ApiResponse<SocialLoginResponseDto> login(@RequestBody SocialLoginRequestDto request,
+                                                     HttpServletRequest httpRequest, HttpServletResponse httpResponse) {
+        String requester = httpRequest.getRemoteAddr() + " " + httpRequest.getHeader(HttpHeaders.USER_AGENT);
+        SocialLoginResponseDto response = socialLoginService.loginWithKakao(request, requester);
         if (response.getEmail() != null) {
-            session.setAttribute("userEmail", response.getEmail());
+            loginSessionManager.login(httpRequest, httpResponse, response.getEmail());
         }
         return ApiResponse.success(response);
     }
@@ -35,10 +52,11 @@ public class SocialLoginController {
     // 로그인 테스트 api
     @GetMapping("/login/kakao/test")
     public void redirectToKakaoLogin(HttpServletResponse response) throws IOException {
-        String url = "https://kauth.kakao.com/oauth/authorize"
+        String url = kakaoAuthBaseUrl + "/oauth/authorize"
                 + "?client_id=" + kakaoClientId
                 + "&redirect_uri=" + kakaoRedirectUri
-                + "&response_type=code";
+                + "&response_type=code"
+                + (kakaoOidcEnabled ? "&scope=" + KAKAO_OIDC_SCOPE : "");
         response.sendRedirect(url);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,96 @@
+package org.ject.recreation.core.api.controller;
+
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.core.api.controller.request.SocialLoginRequestDto;
+import org.ject.recreation.core.api.controller.response.SocialLoginResponseDto;
+import org.ject.recreation.core.domain.ReactiveSocialLoginService;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.ratelimit.ClientAddressResolver;
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.server.ServerRequest;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+
+/**
+ * reactive 프로필의 /login/kakao. SocialLoginController 와 같은 요청/응답이고 세션은 WebSession 에 저장한다.
+ * 함수형 라우트는 @RestControllerAdvice 를 거치지 않으므로 오류는 ApiControllerAdvice 를 직접 불러 같은 응답으로 바꾼다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class SocialLoginHandler {
+
+    // HttpSessionLoginSessionManager 와 같은 속성 이름
+    private static final String USER_EMAIL_ATTRIBUTE = "userEmail";
+
+    private final ReactiveSocialLoginService reactiveSocialLoginService;
+    private final ApiControllerAdvice apiControllerAdvice;
+    private final ClientAddressResolver clientAddressResolver;
+
+    @Value("${kakao.client-id}")
+    private String kakaoClientId;
+
+    @Value("${kakao.redirect-uri}")
+    private String kakaoRedirectUri;
+
+    @Value("${kakao.auth-base-url}")
+    private String kakaoAuthBaseUrl;
+
+    @Value("${kakao.oidc.enabled}")
+    private boolean kakaoOidcEnabled;
+
+    public Mono<ServerResponse> login(ServerRequest request) {
+        return request.bodyToMono(SocialLoginRequestDto.class)
+                .switchIfEmpty(Mono.error(() -> new CoreException(ErrorType.INVALID_REQUEST, "request body is required")))
+                .flatMap(body -> reactiveSocialLoginService.loginWithKakao(body, requester(request)))
+                .flatMap(response -> saveSession(request, response).thenReturn(response))
+                .flatMap(response -> ServerResponse.ok().bodyValue(ApiResponse.success(response)))
+                .onErrorResume(CoreException.class, e -> toServerResponse(apiControllerAdvice.handleCoreException(e)))
+                .onErrorResume(e -> !(e instanceof CoreException),
+                        e -> toServerResponse(apiControllerAdvice.handleException(asException(e))));
+    }
+
+    // SocialLoginController 와 같은 "주소 User-Agent" 형식
+    private String requester(ServerRequest request) {
+        return clientAddressResolver.resolve(request.exchange().getRequest())
+                + " " + request.headers().firstHeader(HttpHeaders.USER_AGENT);
+    }
+
+    // 로그인 테스트 api
+    public Mono<ServerResponse> redirectToKakaoLogin(ServerRequest request) {
+        String url = kakaoAuthBaseUrl + "/oauth/authorize"
+                + "?client_id=" + kakaoClientId
+                + "&redirect_uri=" + kakaoRedirectUri
+                + "&response_type=code"
+                + (kakaoOidcEnabled ? "&scope=" + SocialLoginController.KAKAO_OIDC_SCOPE : "");
+        // servlet 의 sendRedirect 와 같은 302
+        return ServerResponse.status(HttpStatus.FOUND).location(URI.create(url)).build();
+    }
+
+    private Mono<Void> saveSession(ServerRequest request, SocialLoginResponseDto response) {
+        if (response.getEmail() == null) {
+            return Mono.empty();
+        }
+        // 속성이 생기면 세션이 시작된 것으로 보고 응답 커밋 시 저장, 쿠키 발급까지 WebSessionManager 가 처리함
+        return request.session()
+                .doOnNext(session -> session.getAttributes().put(USER_EMAIL_ATTRIBUTE, response.getEmail()))
+                .then();
+    }
+
+    private static Mono<ServerResponse> toServerResponse(ResponseEntity<ApiResponse<?>> entity) {
+        return ServerResponse.status(entity.getStatusCode()).bodyValue(entity.getBody());
+    }
+
+    private static Exception asException(Throwable e) {
+        return e instanceof Exception exception ? exception : new IllegalStateException(e);
+    }
+}
@@ -0,0 +1,18 @@
+package org.ject.recreation.core.api.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserPageResponseDto {
+    private List<UserResponseDto> users;
+    // 다음 페이지 요청에 그대로 넘기는 값. 마지막 페이지면 null
+    private String nextCursor;
+}
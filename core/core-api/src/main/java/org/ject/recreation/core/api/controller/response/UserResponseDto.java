@@ -0,0 +1,34 @@
+package org.ject.recreation.core.api.controller.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.ject.recreation.storage.db.core.User;
+
+import java.time.LocalDateTime;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserResponseDto {
+    private String email;
+    private String platform;
+    private String profileImageUrl;
+    private String nickname;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    public static UserResponseDto from(User user) {
+        return UserResponseDto.builder()
+            .email(user.getEmail())
+            .platform(user.getPlatform())
+            .profileImageUrl(user.getProfileImageUrl())
+            .nickname(user.getNickname())
+            .createdAt(user.getCreatedAt())
+            .updatedAt(user.getUpdatedAt()).build();
+    }
+}
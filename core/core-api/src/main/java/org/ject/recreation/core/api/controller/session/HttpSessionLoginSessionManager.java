@@ -0,0 +1,28 @@
+package org.ject.recreation.core.api.controller.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "session.mode", havingValue = "servlet", matchIfMissing = true)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class HttpSessionLoginSessionManager implements LoginSessionManager {
+
+    private static final String USER_EMAIL_ATTRIBUTE = "userEmail";
+
+    @Override
+    public void login(HttpServletRequest request, HttpServletResponse response, String email) {
+        request.getSession().setAttribute(USER_EMAIL_ATTRIBUTE, email);
+    }
+
+    @Override
+    public String resolveEmail(HttpServletRequest request) {
+        HttpSession session = request.getSession(false);
+        if (session == null) return null;
+        return (String) session.getAttribute(USER_EMAIL_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,25 @@
+package org.ject.recreation.core.api.controller.session;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 로그인한 사용자의 email 을 요청 사이에 유지하는 방식.
+ * session.mode 설정으로 구현체를 고른다 (servlet: HttpSession, token: 서명된 토큰, offheap: memory-mapped 저장소).
+ */
+public interface LoginSessionManager {
+
+    void login(HttpServletRequest request, HttpServletResponse response, String email);
+
+    String resolveEmail(HttpServletRequest request);
+
+    // 조회하면서 세션 만료를 늘리는 구현은 response 로 쿠키를 다시 내려준다
+    default String resolveEmail(HttpServletRequest request, HttpServletResponse response) {
+        return resolveEmail(request);
+    }
+
+    // readiness 확인용. 새 로그인을 받을 수 없는 상태면 false
+    default boolean isAvailable() {
+        return true;
+    }
+}
@@ -0,0 +1,107 @@
+package org.ject.recreation.core.api.controller.session;
+
+import jakarta.annotation.PreDestroy;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ject.recreation.core.support.session.OffHeapSessionStore;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.time.Duration;
+
+/**
+ * 서버 측 세션이 필요한 배포용. 세션 id -> email 만 memory-mapped 파일에 저장해서
+ * 로그인 사용자 수가 늘어도 힙(GC 대상) 크기가 늘지 않는다.
+ */
+@Component
+@ConditionalOnProperty(name = "session.mode", havingValue = "offheap")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class OffHeapLoginSessionManager implements LoginSessionManager {
+
+    private final OffHeapSessionStore sessionStore;
+
+    private final Duration ttl;
+
+    private final String cookieName;
+
+    private final boolean secureCookie;
+
+    public OffHeapLoginSessionManager(@Value("${session.offheap.path}") Path path,
+                                      @Value("${session.offheap.capacity}") int capacity,
+                                      @Value("${session.offheap.ttl}") Duration ttl,
+                                      @Value("${session.offheap.cookie-name}") String cookieName,
+                                      @Value("${session.offheap.secure-cookie}") boolean secureCookie) {
+        try {
+            this.sessionStore = OffHeapSessionStore.open(path, capacity, ttl, System.currentTimeMillis());
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to open off-heap session store at " + path, e);
+        }
+        this.ttl = ttl;
+        this.cookieName = cookieName;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    public void login(HttpServletRequest request, HttpServletResponse response, String email) {
+        addCookie(response, sessionStore.create(email, System.currentTimeMillis()));
+    }
+
+    @Override
+    public String resolveEmail(HttpServletRequest request) {
+        return resolveEmail(request, null);
+    }
+
+    @Override
+    public String resolveEmail(HttpServletRequest request, HttpServletResponse response) {
+        Cookie cookie = WebUtils.getCookie(request, cookieName);
+        if (cookie == null) return null;
+        OffHeapSessionStore.Resolution resolution = sessionStore.resolve(cookie.getValue(), System.currentTimeMillis());
+        if (resolution == null) return null;
+        // 저장소에서만 늘리면 브라우저 쿠키가 처음 발급한 maxAge 에 먼저 만료되므로 같이 늘려줌
+        if (resolution.renewed() && response != null) {
+            addCookie(response, cookie.getValue());
+        }
+        return resolution.email();
+    }
+
+    private void addCookie(HttpServletResponse response, String sessionId) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, sessionId)
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(ttl)
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public boolean isAvailable() {
+        // linear probing 이라 거의 찼을 때는 create 가 급격히 느려지고 결국 실패함 (남은 tombstone 도 탐색 길이에 포함)
+        return sessionStore.occupied() < sessionStore.capacity() / 10 * 9;
+    }
+
+    public OffHeapSessionStore getSessionStore() {
+        return sessionStore;
+    }
+
+    @Scheduled(fixedDelay = 1000)
+    public void expireSessions() {
+        sessionStore.expire(System.currentTimeMillis());
+    }
+
+    @PreDestroy
+    public void close() throws IOException {
+        sessionStore.close();
+    }
+}
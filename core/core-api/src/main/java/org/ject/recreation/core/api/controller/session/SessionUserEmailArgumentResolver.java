@@ -1,7 +1,9 @@
 package org.ject.recreation.core.api.controller.session;
 
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.core.MethodParameter;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.NativeWebRequest;
@@ -9,7 +11,11 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 
 @Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SessionUserEmailArgumentResolver implements HandlerMethodArgumentResolver {
+    private final LoginSessionManager loginSessionManager;
+
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         return parameter.hasParameterAnnotation(SessionUserEmail.class)
@@ -21,8 +27,6 @@ public class SessionUserEmailArgumentResolver implements HandlerMethodArgumentRe
                                   NativeWebRequest webRequest, org.springframework.web.bind.support.WebDataBinderFactory binderFactory) {
         HttpServletRequest request = webRequest.getNativeRequest(HttpServletRequest.class);
         if (request == null) return null;
-        HttpSession session = request.getSession(false);
-        if (session == null) return null;
-        return session.getAttribute("userEmail");
+        return loginSessionManager.resolveEmail(request, webRequest.getNativeResponse(HttpServletResponse.class));
     }
-} 
\ No newline at end of file
+}
@@ -0,0 +1,70 @@
+package org.ject.recreation.core.api.controller.session;
+
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ject.recreation.core.support.session.SessionTokenCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+import org.springframework.web.util.WebUtils;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * 서버에 상태를 두지 않는 세션. 로그인 시 서명된 토큰을 쿠키로 내려주고,
+ * 이후 요청은 쿠키 또는 Authorization: Bearer 헤더의 토큰을 로컬에서 검증한다.
+ */
+@Component
+@ConditionalOnProperty(name = "session.mode", havingValue = "token")
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SignedTokenLoginSessionManager implements LoginSessionManager {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+
+    private final SessionTokenCodec sessionTokenCodec;
+
+    private final String cookieName;
+
+    private final boolean secureCookie;
+
+    public SignedTokenLoginSessionManager(@Value("${session.token.keys}") String keys,
+                                          @Value("${session.token.active-key-id}") String activeKeyId,
+                                          @Value("${session.token.ttl}") Duration ttl,
+                                          @Value("${session.token.cookie-name}") String cookieName,
+                                          @Value("${session.token.secure-cookie}") boolean secureCookie) {
+        this.sessionTokenCodec = new SessionTokenCodec(SessionTokenCodec.parseKeys(keys), activeKeyId, ttl);
+        this.cookieName = cookieName;
+        this.secureCookie = secureCookie;
+    }
+
+    @Override
+    public void login(HttpServletRequest request, HttpServletResponse response, String email) {
+        ResponseCookie cookie = ResponseCookie.from(cookieName, sessionTokenCodec.issue(email, Instant.now()))
+                .httpOnly(true)
+                .secure(secureCookie)
+                .sameSite("Lax")
+                .path("/")
+                .maxAge(sessionTokenCodec.getTtl())
+                .build();
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie.toString());
+    }
+
+    @Override
+    public String resolveEmail(HttpServletRequest request) {
+        return sessionTokenCodec.verify(extractToken(request), Instant.now());
+    }
+
+    private String extractToken(HttpServletRequest request) {
+        String authorization = request.getHeader(HttpHeaders.AUTHORIZATION);
+        if (authorization != null && authorization.startsWith(BEARER_PREFIX)) {
+            return authorization.substring(BEARER_PREFIX.length());
+        }
+        Cookie cookie = WebUtils.getCookie(request, cookieName);
+        return cookie != null ? cookie.getValue() : null;
+    }
+}
@@ -0,0 +1,12 @@
+package org.ject.recreation.core.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+// spring.threads.virtual.enabled 값에 따라 @Async / @Scheduled 실행기가 virtual thread 기반으로 바뀜
+@Configuration
+@EnableAsync
+@EnableScheduling
+public class AsyncConfig {
+}
@@ -0,0 +1,39 @@
+package org.ject.recreation.core.config;
+
+import org.ject.recreation.core.api.controller.SocialLoginHandler;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.ReactorResourceFactory;
+import org.springframework.web.reactive.function.server.RouterFunction;
+import org.springframework.web.reactive.function.server.RouterFunctions;
+import org.springframework.web.reactive.function.server.ServerResponse;
+import reactor.netty.resources.LoopResources;
+
+/**
+ * reactive 프로필(spring.main.web-application-type=reactive)의 WebFlux 설정.
+ * 서버는 reactive.netty.event-loop-threads 개의 전용 event loop 에서만 요청을 처리한다.
+ * Kakao WebClient 는 Reactor Netty 전역 loop(reactor.netty.ioWorkerCount)를 그대로 쓴다.
+ */
+@Configuration
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig {
+
+    // NettyReactiveWebServerFactory 가 이 빈의 LoopResources 로 서버를 띄움
+    @Bean
+    public ReactorResourceFactory reactorResourceFactory(@Value("${reactive.netty.event-loop-threads}") int eventLoopThreads) {
+        ReactorResourceFactory resourceFactory = new ReactorResourceFactory();
+        resourceFactory.setUseGlobalResources(false);
+        resourceFactory.setLoopResources(LoopResources.create("core-api-http", eventLoopThreads, true));
+        return resourceFactory;
+    }
+
+    @Bean
+    public RouterFunction<ServerResponse> socialLoginRoutes(SocialLoginHandler socialLoginHandler) {
+        return RouterFunctions.route()
+                .POST("/login/kakao", socialLoginHandler::login)
+                .GET("/login/kakao/test", socialLoginHandler::redirectToKakaoLogin)
+                .build();
+    }
+}
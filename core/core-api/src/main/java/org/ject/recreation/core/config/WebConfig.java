@@ -1,20 +1,46 @@
 package org.ject.recreation.core.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.ject.recreation.core.api.controller.session.SessionUserEmailArgumentResolver;
+import org.ject.recreation.core.support.admin.AdminAccessInterceptor;
+import org.ject.recreation.core.support.query.QueryAccountingInterceptor;
+import org.ject.recreation.core.support.ratelimit.LoginAdmissionInterceptor;
+import org.ject.recreation.core.support.response.ApiResponseHttpMessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.HttpMessageConverter;
 import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 
 import java.util.List;
 
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class WebConfig implements WebMvcConfigurer {
     private final SessionUserEmailArgumentResolver sessionUserEmailArgumentResolver;
+    private final ObjectMapper objectMapper;
+    private final LoginAdmissionInterceptor loginAdmissionInterceptor;
+    private final AdminAccessInterceptor adminAccessInterceptor;
+    private final QueryAccountingInterceptor queryAccountingInterceptor;
 
     @Override
     public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
         resolvers.add(sessionUserEmailArgumentResolver);
     }
-} 
\ No newline at end of file
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryAccountingInterceptor);
+        registry.addInterceptor(loginAdmissionInterceptor).addPathPatterns("/login/kakao");
+        registry.addInterceptor(adminAccessInterceptor).addPathPatterns("/admin/**");
+    }
+
+    @Override
+    public void extendMessageConverters(List<HttpMessageConverter<?>> converters) {
+        // Jackson converter 보다 먼저 ApiResponse 를 처리하도록 맨 앞에 등록
+        converters.add(0, new ApiResponseHttpMessageConverter(objectMapper));
+    }
+}
@@ -0,0 +1,86 @@
+package org.ject.recreation.core.domain;
+
+import lombok.extern.slf4j.Slf4j;
+import org.ject.recreation.client.kakao.KakaoClient;
+import org.ject.recreation.client.kakao.KakaoClientException;
+import org.ject.recreation.client.kakao.KakaoUserInfo;
+import org.ject.recreation.core.api.controller.request.SocialLoginRequestDto;
+import org.ject.recreation.core.api.controller.response.SocialLoginResponseDto;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.concurrent.SingleFlight;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.storage.db.core.ReactiveUserRepository;
+import org.ject.recreation.storage.db.core.User;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Service;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * reactive 프로필의 로그인. SocialLoginService 와 같은 흐름을 Mono 로 이어서 event loop 를 막지 않는다.
+ * 프로필 썸네일 캐시는 servlet 스택에만 있으므로 URL 변경 처리는 하지 않는다.
+ */
+@Slf4j
+@Service
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveSocialLoginService {
+    private final ReactiveUserRepository reactiveUserRepository;
+    private final KakaoClient kakaoClient;
+
+    // SocialLoginService 와 같은 single-flight (결과 공유와 최근 결과 기억)
+    private final SingleFlight<String, SocialLoginResponseDto> loginFlights;
+
+    public ReactiveSocialLoginService(ReactiveUserRepository reactiveUserRepository,
+                                      KakaoClient kakaoClient,
+                                      @Value("${login.single-flight.recent-ttl}") Duration recentTtl,
+                                      @Value("${login.single-flight.recent-maximum-size}") long recentMaximumSize) {
+        this.reactiveUserRepository = reactiveUserRepository;
+        this.kakaoClient = kakaoClient;
+        this.loginFlights = new SingleFlight<>("login.kakao.coalesced", recentTtl, recentMaximumSize);
+    }
+
+    /**
+     * requester 는 SocialLoginService 와 같이 요청한 클라이언트를 구분하는 값으로, 인가 코드와 함께 single-flight key 가 된다.
+     */
+    public Mono<SocialLoginResponseDto> loginWithKakao(SocialLoginRequestDto request, String requester) {
+        String code = request.getCode();
+        if (code == null) {
+            return exchange(request);
+        }
+        // toFuture 로 따로 구독하므로 먼저 온 요청이 취소(클라이언트 끊김)돼도 기다리는 요청을 위해 교환은 끝까지 진행
+        return Mono.fromFuture(() -> loginFlights.execute(code + '\n' + requester, () -> exchange(request).toFuture()),
+                true);
+    }
+
+    private Mono<SocialLoginResponseDto> exchange(SocialLoginRequestDto request) {
+        return kakaoClient.fetchToken(request.getCode())
+                .flatMap(kakaoClient::fetchUserInfo)
+                .onErrorMap(KakaoClientException.class, e -> {
+                    // 응답에는 내부 메시지 없이 미리 인코딩된 KAKAO_UNAVAILABLE 본문만 나가므로 원인은 여기서 남김
+                    log.warn("Kakao login failed: {}", e.getMessage(), e);
+                    return new CoreException(ErrorType.KAKAO_UNAVAILABLE);
+                })
+                .switchIfEmpty(Mono.error(() -> {
+                    log.warn("Kakao login failed: empty response");
+                    return new CoreException(ErrorType.KAKAO_UNAVAILABLE);
+                }))
+                .flatMap(this::saveOrUpdateUser)
+                .map(this::createResponse);
+    }
+
+    private Mono<User> saveOrUpdateUser(KakaoUserInfo userInfo) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = new User(userInfo.email(), "kakao", userInfo.profileImageUrl(), userInfo.nickname(), now, now);
+        return reactiveUserRepository.upsert(user).thenReturn(user);
+    }
+
+    private SocialLoginResponseDto createResponse(User user) {
+        return SocialLoginResponseDto.builder()
+            .email(user.getEmail())
+            .nickname(user.getNickname())
+            .profileImageUrl(user.getProfileImageUrl()).build();
+    }
+}
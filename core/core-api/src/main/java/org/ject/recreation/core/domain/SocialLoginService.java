@@ -1,90 +1,101 @@
 package org.ject.recreation.core.domain;
 
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.ject.recreation.client.kakao.KakaoClient;
+import org.ject.recreation.client.kakao.KakaoClientException;
+import org.ject.recreation.client.kakao.KakaoTokenResponse;
+import org.ject.recreation.client.kakao.KakaoUserInfo;
 import org.ject.recreation.core.api.controller.request.SocialLoginRequestDto;
 import org.ject.recreation.core.api.controller.response.SocialLoginResponseDto;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.concurrent.SingleFlight;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.image.ProfileImageCache;
 import org.ject.recreation.storage.db.core.User;
-import org.ject.recreation.storage.db.core.UserRepository;
+import org.ject.recreation.storage.db.core.UserNearCache;
+import org.ject.recreation.storage.db.core.UserWriter;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.stereotype.Service;
-import org.springframework.web.reactive.function.client.WebClient;
-import reactor.core.publisher.Mono;
-import org.springframework.http.*;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
+@Slf4j
 @Service
-@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 public class SocialLoginService {
-    private final UserRepository userRepository;
-    private final WebClient webClient;
+    private final UserWriter userWriter;
+    private final UserNearCache userNearCache;
+    private final KakaoClient kakaoClient;
+    private final ProfileImageCache profileImageCache;
 
-    @Value("${kakao.client-id}")
-    private String kakaoClientId;
-    @Value("${kakao.redirect-uri}")
-    private String kakaoRedirectUri;
-    @Value("${kakao.client-secret:}")
-    private String kakaoClientSecret;
+    // 같은 클라이언트가 같은 인가 코드로 동시에 보낸 요청과 교환 직후의 재시도(더블 탭, 재전송)는 한 번의 교환 결과를 나눠 씀
+    // (코드는 한 번만 교환 가능). 다른 클라이언트가 코드를 재사용하면 결과를 받지 못하고 Kakao 교환에서 거절됨
+    private final SingleFlight<String, SocialLoginResponseDto> loginFlights;
 
-    public SocialLoginResponseDto loginWithKakao(SocialLoginRequestDto request) {
-        String accessToken = getKakaoAccessToken(request.getCode());
-        Map<String, String> userInfo = getKakaoUserInfo(accessToken);
-        User user = saveOrUpdateUser(userInfo);
-        return createResponse(user);
+    public SocialLoginService(UserWriter userWriter,
+                              UserNearCache userNearCache,
+                              KakaoClient kakaoClient,
+                              ProfileImageCache profileImageCache,
+                              @Value("${login.single-flight.recent-ttl}") Duration recentTtl,
+                              @Value("${login.single-flight.recent-maximum-size}") long recentMaximumSize) {
+        this.userWriter = userWriter;
+        this.userNearCache = userNearCache;
+        this.kakaoClient = kakaoClient;
+        this.profileImageCache = profileImageCache;
+        this.loginFlights = new SingleFlight<>("login.kakao.coalesced", recentTtl, recentMaximumSize);
     }
 
-    private String getKakaoAccessToken(String code) {
-        String tokenUrl = "https://kauth.kakao.com/oauth/token";
-        StringBuilder bodyBuilder = new StringBuilder();
-        bodyBuilder.append("grant_type=authorization_code")
-                .append("&client_id=").append(kakaoClientId)
-                .append("&redirect_uri=").append(kakaoRedirectUri)
-                .append("&code=").append(code);
-        if (kakaoClientSecret != null && !kakaoClientSecret.isBlank()) {
-            bodyBuilder.append("&client_secret=").append(kakaoClientSecret);
+    /**
+     * requester 는 요청한 클라이언트를 구분하는 값(주소와 User-Agent). 인가 코드와 함께 single-flight key 가 된다.
+     */
+    public SocialLoginResponseDto loginWithKakao(SocialLoginRequestDto request, String requester) {
+        String code = request.getCode();
+        if (code == null) {
+            return exchange(request);
         }
-        String body = bodyBuilder.toString();
-        Mono<Map> tokenMono = webClient.post()
-            .uri(tokenUrl)
-            .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_FORM_URLENCODED_VALUE)
-            .bodyValue(body)
-            .retrieve()
-            .bodyToMono(Map.class);
-        Map tokenResponse = tokenMono.block();
-        return (String) tokenResponse.get("access_token");
-    }
 
-    private Map<String, String> getKakaoUserInfo(String accessToken) {
-        String userInfoUrl = "https://kapi.kakao.com/v2/user/me";
-        Mono<Map> userMono = webClient.get()
-            .uri(userInfoUrl)
-            .header(HttpHeaders.AUTHORIZATION, "Bearer " + accessToken)
-            .retrieve()
-            .bodyToMono(Map.class);
-        Map userResponse = userMono.block();
+        // 교환은 먼저 온 요청의 스레드에서 바로 실행되고 나머지는 그 결과를 기다림
+        return await(loginFlights.execute(code + '\n' + requester,
+                () -> CompletableFuture.completedFuture(exchange(request))));
+    }
 
-        Map kakaoAccount = (Map) userResponse.get("kakao_account");
-        Map profile = (Map) kakaoAccount.get("profile");
-        
-        Map<String, String> userInfo = new HashMap<>();
-        userInfo.put("email", (String) kakaoAccount.get("email"));
-        userInfo.put("nickname", (String) profile.get("nickname"));
-        userInfo.put("profileImageUrl", (String) profile.get("profile_image_url"));
-        
-        return userInfo;
+    private SocialLoginResponseDto await(CompletableFuture<SocialLoginResponseDto> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
     }
 
-    private User saveOrUpdateUser(Map<String, String> userInfo) {
-        String email = userInfo.get("email");
-        String nickname = userInfo.get("nickname");
-        String profileImageUrl = userInfo.get("profileImageUrl");
+    private SocialLoginResponseDto exchange(SocialLoginRequestDto request) {
+        KakaoUserInfo userInfo;
+        try {
+            KakaoTokenResponse token = kakaoClient.getToken(request.getCode());
+            userInfo = kakaoClient.getUserInfo(token);
+        } catch (KakaoClientException e) {
+            // 응답에는 내부 메시지 없이 미리 인코딩된 KAKAO_UNAVAILABLE 본문만 나가므로 원인은 여기서 남김
+            log.warn("Kakao login failed: {}", e.getMessage(), e);
+            throw new CoreException(ErrorType.KAKAO_UNAVAILABLE);
+        }
+        User user = saveOrUpdateUser(userInfo);
+        return createResponse(user);
+    }
 
-        User user = userRepository.findById(email).orElse(
-            new User(email, "kakao", profileImageUrl, nickname, LocalDateTime.now(), LocalDateTime.now())
-        );
-        return userRepository.save(user);
+    private User saveOrUpdateUser(KakaoUserInfo userInfo) {
+        LocalDateTime now = LocalDateTime.now();
+        User user = new User(userInfo.email(), "kakao", userInfo.profileImageUrl(), userInfo.nickname(), now, now);
+        // upsert 가 캐시를 갱신하기 전에 이전 URL 을 봐 둠 (캐시에 없으면 모르는 것으로 취급)
+        String previousImageUrl = userNearCache.getIfPresent(user.getEmail()).map(User::getProfileImageUrl).orElse(null);
+        userWriter.upsert(user);
+        profileImageCache.onUrlChanged(previousImageUrl, user.getProfileImageUrl());
+        return user;
     }
 
     private SocialLoginResponseDto createResponse(User user) {
@@ -93,4 +104,4 @@ public class SocialLoginService {
             .nickname(user.getNickname())
             .profileImageUrl(user.getProfileImageUrl()).build();
     }
-} 
\ No newline at end of file
+}
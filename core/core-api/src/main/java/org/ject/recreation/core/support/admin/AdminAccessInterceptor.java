@@ -0,0 +1,41 @@
+package org.ject.recreation.core.support.admin;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+
+/**
+ * /admin/** 요청은 X-Admin-Token 헤더가 admin.api-token 과 같을 때만 통과시킨다.
+ * 토큰을 설정하지 않으면 관리 API 는 모두 막힌다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class AdminAccessInterceptor implements HandlerInterceptor {
+
+    static final String TOKEN_HEADER = "X-Admin-Token";
+
+    private final byte[] apiToken;
+
+    public AdminAccessInterceptor(@Value("${admin.api-token}") String apiToken) {
+        this.apiToken = apiToken.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        String token = request.getHeader(TOKEN_HEADER);
+        // 길이 외의 정보가 응답 시간으로 새지 않도록 상수 시간 비교
+        if (apiToken.length == 0 || token == null
+                || !MessageDigest.isEqual(apiToken, token.getBytes(StandardCharsets.UTF_8))) {
+            throw new CoreException(ErrorType.FORBIDDEN);
+        }
+        return true;
+    }
+}
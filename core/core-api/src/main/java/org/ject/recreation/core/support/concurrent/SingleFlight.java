@@ -0,0 +1,91 @@
+package org.ject.recreation.core.support.concurrent;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Metrics;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 같은 key 로 동시에 들어온 작업은 한 번만 실행하고 나머지는 그 결과를 기다린다.
+ * 성공한 결과는 recentTtl 동안 기억해서 끝난 직후의 재시도도 다시 실행하지 않는다 (실패는 기억하지 않음).
+ * 합쳐진 호출 수는 {metricName}{source=in-flight|recent} 카운터로 남는다.
+ */
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+
+    private final Cache<K, V> recent;
+
+    private final Counter coalescedInFlight;
+
+    private final Counter coalescedRecent;
+
+    public SingleFlight(String metricName, Duration recentTtl, long recentMaximumSize) {
+        this.recent = Caffeine.newBuilder()
+                .expireAfterWrite(recentTtl)
+                .maximumSize(recentMaximumSize)
+                .build();
+        this.coalescedInFlight = Counter.builder(metricName).tag("source", "in-flight")
+                .register(Metrics.globalRegistry);
+        this.coalescedRecent = Counter.builder(metricName).tag("source", "recent")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * key 에 대해 진행 중이거나 최근에 끝난 결과가 있으면 그것을, 없으면 work 를 실행한 결과를 돌려준다.
+     * work 는 호출한 스레드에서 바로 시작되고, 돌려받은 future 를 취소해도 work 는 끝까지 진행된다.
+     */
+    public CompletableFuture<V> execute(K key, Supplier<CompletableFuture<V>> work) {
+        V memo = recent.getIfPresent(key);
+        if (memo != null) {
+            coalescedRecent.increment();
+            return CompletableFuture.completedFuture(memo);
+        }
+
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalescedInFlight.increment();
+            return existing.copy();
+        }
+
+        // 첫 확인과 putIfAbsent 사이에 앞선 작업이 끝나고 in-flight 에서 빠졌을 수 있으므로 다시 확인
+        memo = recent.getIfPresent(key);
+        if (memo != null) {
+            coalescedRecent.increment();
+            inFlight.remove(key, flight);
+            flight.complete(memo);
+            return CompletableFuture.completedFuture(memo);
+        }
+
+        CompletableFuture<V> result;
+        try {
+            result = work.get();
+        } catch (RuntimeException | Error e) {
+            // 동기로 던져진 예외도 기다리는 호출자에게 전달하고 in-flight 에서 빠지도록 future 로 바꿈
+            result = CompletableFuture.failedFuture(e);
+        }
+        result.whenComplete((value, error) -> {
+            if (error == null) {
+                // in-flight 에서 빠지기 전에 넣어야 그 사이에 온 재시도가 다시 실행하지 않음
+                recent.put(key, value);
+            }
+            inFlight.remove(key, flight);
+            if (error == null) {
+                flight.complete(value);
+            } else {
+                flight.completeExceptionally(error instanceof CompletionException && error.getCause() != null
+                        ? error.getCause() : error);
+            }
+        });
+        // 한 호출자가 취소해도 같은 flight 를 기다리는 다른 호출자에게 번지지 않도록 복사본을 돌려줌
+        return flight.copy();
+    }
+}
@@ -2,19 +2,27 @@ package org.ject.recreation.core.support.error;
 
 public class CoreException extends RuntimeException {
 
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private static final String APPLICATION_PACKAGE = "org.ject.recreation.";
+
     private final ErrorType errorType;
     private final Object data;
+    // 예상된 오류는 스택 트레이스가 없으므로 던진 위치만 한 프레임 남김 (ApiControllerAdvice 의 로그 묶음 key)
+    private final String callSite;
 
     public CoreException(ErrorType errorType) {
-        super(errorType.getMessage());
+        super(errorType.getMessage(), null, false, !errorType.isExpected());
         this.errorType = errorType;
         this.data = null;
+        this.callSite = errorType.isExpected() ? findCallSite() : null;
     }
 
     public CoreException(ErrorType errorType, Object data) {
-        super(errorType.getMessage());
+        super(errorType.getMessage(), null, false, !errorType.isExpected());
         this.errorType = errorType;
         this.data = data;
+        this.callSite = errorType.isExpected() ? findCallSite() : null;
     }
 
     public ErrorType getErrorType() {
@@ -24,4 +32,19 @@ public class CoreException extends RuntimeException {
     public Object getData() {
         return data;
     }
+
+    // 스택 트레이스가 있으면 null (첫 프레임을 쓰면 됨)
+    public String getCallSite() {
+        return callSite;
+    }
+
+    // 생성자 바로 바깥의 애플리케이션 프레임 하나만 봄. 스트림이 lazy 라 스택 전체를 만들지 않음
+    private static String findCallSite() {
+        return STACK_WALKER.walk(frames -> frames
+                .filter(frame -> frame.getClassName().startsWith(APPLICATION_PACKAGE)
+                        && !frame.getClassName().equals(CoreException.class.getName()))
+                .findFirst()
+                .map(frame -> frame.getClassName() + "." + frame.getMethodName() + ":" + frame.getLineNumber())
+                .orElse("-"));
+    }
 }
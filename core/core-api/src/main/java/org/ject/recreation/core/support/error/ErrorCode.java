@@ -2,6 +2,6 @@ package org.ject.recreation.core.support.error;
 
 public enum ErrorCode {
 
-    E500
+    E400, E401, E403, E404, E429, E500, E503
 
 }
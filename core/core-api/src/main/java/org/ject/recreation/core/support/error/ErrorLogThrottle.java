@@ -0,0 +1,52 @@
+package org.ject.recreation.core.support.error;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 같은 키(오류 종류 + 발생 위치)의 로그를 interval 에 한 번만 남기고 나머지는 개수만 센다.
+ * 키 수는 maxKeys 로 제한되며, 넘치면 새 키들은 하나의 overflow 키를 같이 쓴다.
+ */
+public class ErrorLogThrottle {
+
+    static final String OVERFLOW_KEY = "overflow";
+
+    private final long intervalNanos;
+
+    private final int maxKeys;
+
+    private final Map<String, Window> windows = new ConcurrentHashMap<>();
+
+    public ErrorLogThrottle(long intervalNanos, int maxKeys) {
+        this.intervalNanos = intervalNanos;
+        this.maxKeys = maxKeys;
+    }
+
+    /**
+     * 로그를 남겨야 하면 직전 로그 이후 생략된 건수(0 이상)를, 생략해야 하면 -1 을 돌려준다.
+     */
+    public long tryAcquire(String key) {
+        Window window = windows.get(key);
+        if (window == null) {
+            String windowKey = windows.size() < maxKeys ? key : OVERFLOW_KEY;
+            window = windows.computeIfAbsent(windowKey, ignored -> new Window());
+        }
+        long now = System.nanoTime();
+        long nextAllowedAt = window.nextAllowedAt.get();
+        if (now - nextAllowedAt >= 0 && window.nextAllowedAt.compareAndSet(nextAllowedAt, now + intervalNanos)) {
+            return window.suppressed.sumThenReset();
+        }
+        window.suppressed.increment();
+        return -1;
+    }
+
+    private static final class Window {
+
+        // 처음 한 번은 바로 남길 수 있도록 interval 보다 충분히 과거 시각으로 시작
+        private final AtomicLong nextAllowedAt = new AtomicLong(System.nanoTime() - Long.MAX_VALUE / 2);
+
+        private final LongAdder suppressed = new LongAdder();
+    }
+}
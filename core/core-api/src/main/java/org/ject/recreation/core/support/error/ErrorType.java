@@ -6,7 +6,21 @@ import org.springframework.http.HttpStatus;
 public enum ErrorType {
 
     DEFAULT_ERROR(HttpStatus.INTERNAL_SERVER_ERROR, ErrorCode.E500, "An unexpected error has occurred.",
-            LogLevel.ERROR);
+            LogLevel.ERROR, false),
+
+    KAKAO_UNAVAILABLE(HttpStatus.SERVICE_UNAVAILABLE, ErrorCode.E503, "Kakao login is temporarily unavailable.",
+            LogLevel.WARN, true),
+
+    TOO_MANY_REQUESTS(HttpStatus.TOO_MANY_REQUESTS, ErrorCode.E429, "Too many requests. Please try again later.",
+            LogLevel.DEBUG, true),
+
+    INVALID_REQUEST(HttpStatus.BAD_REQUEST, ErrorCode.E400, "Invalid request.", LogLevel.DEBUG, true),
+
+    UNAUTHORIZED(HttpStatus.UNAUTHORIZED, ErrorCode.E401, "Login is required.", LogLevel.DEBUG, true),
+
+    NOT_FOUND(HttpStatus.NOT_FOUND, ErrorCode.E404, "Resource not found.", LogLevel.DEBUG, true),
+
+    FORBIDDEN(HttpStatus.FORBIDDEN, ErrorCode.E403, "Access denied.", LogLevel.WARN, true);
 
     private final HttpStatus status;
 
@@ -16,12 +30,16 @@ public enum ErrorType {
 
     private final LogLevel logLevel;
 
-    ErrorType(HttpStatus status, ErrorCode code, String message, LogLevel logLevel) {
+    // 예상된 오류는 던진 위치가 의미 없으므로 CoreException 이 스택 트레이스를 만들지 않음
+    private final boolean expected;
+
+    ErrorType(HttpStatus status, ErrorCode code, String message, LogLevel logLevel, boolean expected) {
 
         this.status = status;
         this.code = code;
         this.message = message;
         this.logLevel = logLevel;
+        this.expected = expected;
     }
 
     public HttpStatus getStatus() {
@@ -40,5 +58,9 @@ public enum ErrorType {
         return logLevel;
     }
 
+    public boolean isExpected() {
+        return expected;
+    }
+
 }
 
@@ -0,0 +1,35 @@
+package org.ject.recreation.core.support.health;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.PoolMetrics;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * storage.mode=r2dbc 에서 DataSourceReadinessCheck 대신 R2DBC 커넥션 풀 상태를 본다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.mode", havingValue = "r2dbc")
+public class ConnectionPoolReadinessCheck implements ReadinessCheck {
+    private final ConnectionPool coreConnectionFactory;
+
+    @Override
+    public String getName() {
+        return "db";
+    }
+
+    @Override
+    public Result check() {
+        PoolMetrics metrics = coreConnectionFactory.getMetrics().orElse(null);
+        if (metrics == null) {
+            return Result.up("metrics unavailable");
+        }
+        int idle = metrics.idleSize();
+        int active = metrics.acquiredSize();
+        int pending = metrics.pendingAcquireSize();
+        boolean exhausted = idle == 0 && pending > 0 && metrics.allocatedSize() >= metrics.getMaxAllocatedSize();
+        return new Result(!exhausted, "(active=" + active + ", idle=" + idle + ", pending=" + pending + ')');
+    }
+}
@@ -0,0 +1,49 @@
+package org.ject.recreation.core.support.health;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.storage.db.core.CoreDataSourceConfig;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 커넥션을 빌리지 않고 풀 수치만 본다. 남은 커넥션 없이 대기 중인 요청이 있으면(풀 고갈 또는 DB 연결 불가) down.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class DataSourceReadinessCheck implements ReadinessCheck {
+    private final CoreDataSourceConfig coreDataSourceConfig;
+
+    @Override
+    public String getName() {
+        return "db";
+    }
+
+    @Override
+    public Result check() {
+        StringBuilder detail = new StringBuilder();
+        boolean up = true;
+        for (HikariDataSource pool : coreDataSourceConfig.getPools()) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                continue;
+            }
+            int idle = mxBean.getIdleConnections();
+            int active = mxBean.getActiveConnections();
+            int waiting = mxBean.getThreadsAwaitingConnection();
+            boolean exhausted = idle == 0 && waiting > 0;
+            boolean disconnected = mxBean.getTotalConnections() == 0 && pool.getMinimumIdle() > 0;
+            up &= !exhausted && !disconnected;
+            if (!detail.isEmpty()) {
+                detail.append(", ");
+            }
+            detail.append(pool.getPoolName())
+                    .append("(active=").append(active)
+                    .append(", idle=").append(idle)
+                    .append(", waiting=").append(waiting).append(')');
+        }
+        return new Result(up, detail.toString());
+    }
+}
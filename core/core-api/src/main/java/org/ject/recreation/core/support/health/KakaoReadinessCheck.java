@@ -0,0 +1,22 @@
+package org.ject.recreation.core.support.health;
+
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.client.kakao.KakaoConnectivityProbe;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class KakaoReadinessCheck implements ReadinessCheck {
+    private final KakaoConnectivityProbe kakaoConnectivityProbe;
+
+    @Override
+    public String getName() {
+        return "kakao";
+    }
+
+    @Override
+    public Result check() {
+        String unreachable = kakaoConnectivityProbe.findUnreachable();
+        return unreachable == null ? Result.up("reachable") : Result.down("unreachable " + unreachable);
+    }
+}
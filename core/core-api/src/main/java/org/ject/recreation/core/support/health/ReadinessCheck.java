@@ -0,0 +1,22 @@
+package org.ject.recreation.core.support.health;
+
+/**
+ * ReadinessMonitor 가 주기적으로 실행하는 확인 항목. 요청 스레드에서는 호출되지 않는다.
+ */
+public interface ReadinessCheck {
+
+    String getName();
+
+    Result check();
+
+    record Result(boolean up, String detail) {
+
+        public static Result up(String detail) {
+            return new Result(true, detail);
+        }
+
+        public static Result down(String detail) {
+            return new Result(false, detail);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package org.ject.recreation.core.support.health;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ReadinessCheck 들을 백그라운드에서 주기적으로 실행하고 결과를 volatile 스냅샷으로 들고 있는다.
+ * 프로브 요청은 스냅샷만 읽으므로 LB 트래픽이 DB 나 외부 호출로 이어지지 않는다.
+ */
+@Component
+public class ReadinessMonitor {
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final List<ReadinessCheck> checks;
+
+    private final Duration staleAfter;
+
+    // 첫 확인이 끝나기 전에는 준비되지 않은 것으로 봄
+    private volatile Snapshot snapshot = new Snapshot(false, Instant.EPOCH, Map.of());
+
+    public ReadinessMonitor(List<ReadinessCheck> checks,
+                            @Value("${health.readiness.stale-after}") Duration staleAfter) {
+        this.checks = List.copyOf(checks);
+        this.staleAfter = staleAfter;
+    }
+
+    @Scheduled(fixedDelayString = "${health.readiness.interval-ms}")
+    public void refresh() {
+        Map<String, ReadinessCheck.Result> results = new LinkedHashMap<>();
+        boolean ready = true;
+        for (ReadinessCheck check : checks) {
+            ReadinessCheck.Result result;
+            try {
+                result = check.check();
+            } catch (RuntimeException e) {
+                result = ReadinessCheck.Result.down(e.toString());
+            }
+            results.put(check.getName(), result);
+            ready &= result.up();
+        }
+        if (ready != snapshot.ready()) {
+            log.warn("Readiness changed to {} : {}", ready ? "UP" : "DOWN", results);
+        }
+        snapshot = new Snapshot(ready, Instant.now(), Map.copyOf(results));
+    }
+
+    /**
+     * 스케줄러가 멈춰서 스냅샷이 오래됐으면 결과와 관계없이 준비되지 않은 것으로 본다.
+     */
+    public Snapshot getSnapshot() {
+        Snapshot current = snapshot;
+        if (current.ready() && current.checkedAt().plus(staleAfter).isBefore(Instant.now())) {
+            return new Snapshot(false, current.checkedAt(), current.checks());
+        }
+        return current;
+    }
+
+    public record Snapshot(boolean ready, Instant checkedAt, Map<String, ReadinessCheck.Result> checks) {
+    }
+}
@@ -0,0 +1,24 @@
+package org.ject.recreation.core.support.health;
+
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.core.api.controller.session.LoginSessionManager;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class SessionStoreReadinessCheck implements ReadinessCheck {
+    private final LoginSessionManager loginSessionManager;
+
+    @Override
+    public String getName() {
+        return "session";
+    }
+
+    @Override
+    public Result check() {
+        String mode = loginSessionManager.getClass().getSimpleName();
+        return loginSessionManager.isAvailable() ? Result.up(mode) : Result.down(mode + " is full");
+    }
+}
@@ -0,0 +1,343 @@
+package org.ject.recreation.core.support.image;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import lombok.extern.slf4j.Slf4j;
+import org.ject.recreation.client.kakao.KakaoClientException;
+import org.ject.recreation.client.kakao.KakaoProfileImageClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+
+/**
+ * 프로필 이미지 URL 별 썸네일을 디스크에 저장하는 LRU 캐시.
+ * 파일 이름은 "URL 해시_내용 해시.jpg" 이고, 내용 해시가 그대로 strong ETag 가 된다.
+ * URL 이 같으면 다시 받지 않으므로, 이미지가 바뀌었는지는 로그인 시 URL 변경으로만 판단한다.
+ * 실패한 URL 은 failure-ttl 동안 다시 받지 않고 바로 empty 를 돌려준다.
+ */
+@Slf4j
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class ProfileImageCache {
+
+    private static final String SUFFIX = ".jpg";
+
+    private final KakaoProfileImageClient profileImageClient;
+
+    private final Executor prefetchExecutor;
+
+    private final ThumbnailEncoder thumbnailEncoder;
+
+    private final Path directory;
+
+    private final long maxBytes;
+
+    private final long deleteGraceMillis;
+
+    // 밀려난 파일은 바로 지우지 않고 deleteGrace 뒤에 지움. 먼저 들어온 것이 먼저 만료되므로 FIFO 로 충분
+    private final ConcurrentLinkedQueue<EvictedFile> evictedFiles = new ConcurrentLinkedQueue<>();
+
+    // accessOrder 라 조회도 순서를 바꾸므로 모든 접근은 this 로 동기화
+    private final LinkedHashMap<String, CachedImage> index = new LinkedHashMap<>(256, 0.75f, true);
+
+    private long totalBytes;
+
+    // 같은 URL 의 첫 요청이 동시에 몰리면 한 번만 받아서 인코딩함
+    private final Map<String, CompletableFuture<Optional<CachedImage>>> inFlight = new ConcurrentHashMap<>();
+
+    // 받거나 인코딩하지 못한 URL. 요청마다 Kakao CDN 을 다시 두드리지 않도록 failure-ttl 동안 바로 실패로 돌려줌
+    private final Cache<String, Boolean> failedKeys;
+
+    private final Counter hits;
+
+    private final Counter misses;
+
+    private final Counter coalesced;
+
+    private final Counter failures;
+
+    private final Counter negativeHits;
+
+    public ProfileImageCache(KakaoProfileImageClient profileImageClient,
+                             @Qualifier("applicationTaskExecutor") Executor prefetchExecutor,
+                             @Value("${profile-image.cache-dir}") Path directory,
+                             @Value("${profile-image.max-cache-size}") DataSize maxCacheSize,
+                             @Value("${profile-image.size}") int size,
+                             @Value("${profile-image.quality}") float quality,
+                             @Value("${profile-image.delete-grace}") Duration deleteGrace,
+                             @Value("${profile-image.failure-ttl}") Duration failureTtl) throws IOException {
+        this.profileImageClient = profileImageClient;
+        this.prefetchExecutor = prefetchExecutor;
+        this.thumbnailEncoder = new ThumbnailEncoder(size, quality);
+        this.directory = directory.toAbsolutePath();
+        this.maxBytes = maxCacheSize.toBytes();
+        this.deleteGraceMillis = deleteGrace.toMillis();
+        this.failedKeys = Caffeine.newBuilder()
+                .expireAfterWrite(failureTtl)
+                .maximumSize(10_000)
+                .build();
+        Files.createDirectories(this.directory);
+        loadIndex();
+
+        this.hits = counter("hit");
+        this.misses = counter("miss");
+        this.coalesced = counter("coalesced");
+        this.failures = counter("failure");
+        this.negativeHits = counter("negative");
+        Gauge.builder("profile-image.cache.size", this, cache -> cache.sizeInBytes())
+                .baseUnit("bytes")
+                .register(Metrics.globalRegistry);
+    }
+
+    /**
+     * 캐시된 썸네일을 돌려주고, 없으면 원본을 받아 만든다. 받을 수 없는 URL 이거나 실패하면 empty.
+     */
+    public Optional<CachedImage> get(String url) {
+        String key = key(url);
+        CachedImage cached = lookup(key);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        if (!profileImageClient.isAllowed(url)) {
+            return Optional.empty();
+        }
+        if (failedKeys.getIfPresent(key) != null) {
+            negativeHits.increment();
+            return Optional.empty();
+        }
+
+        CompletableFuture<Optional<CachedImage>> flight = new CompletableFuture<>();
+        CompletableFuture<Optional<CachedImage>> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            return existing.join();
+        }
+        try {
+            // 앞선 요청이 저장을 끝내고 in-flight 에서 빠진 직후일 수 있음
+            cached = lookup(key);
+            Optional<CachedImage> result = cached != null ? Optional.of(cached) : Optional.ofNullable(fetch(key, url));
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException e) {
+            flight.complete(Optional.empty());
+            throw e;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * 로그인 시 프로필 이미지 URL 이 바뀐 경우 호출한다. 이전 썸네일은 지우고 새 썸네일은 백그라운드에서 미리 만든다.
+     * previousUrl 을 모르면(null) 새 URL 만 확인한다.
+     */
+    public void onUrlChanged(String previousUrl, String currentUrl) {
+        if (Objects.equals(previousUrl, currentUrl)) {
+            return;
+        }
+        if (previousUrl != null) {
+            evict(key(previousUrl));
+        }
+        if (currentUrl != null) {
+            // 새 URL 은 바로 다시 시도해 봄
+            failedKeys.invalidate(key(currentUrl));
+        }
+        if (currentUrl != null && lookup(key(currentUrl)) == null && profileImageClient.isAllowed(currentUrl)) {
+            CompletableFuture.runAsync(() -> get(currentUrl), prefetchExecutor)
+                    .exceptionally(e -> {
+                        log.warn("Failed to prefetch profile image {}", currentUrl, e);
+                        return null;
+                    });
+        }
+    }
+
+    /**
+     * 밀려난 지 deleteGrace 가 지난 파일을 지운다. 컨트롤러가 sendfile 로 경로만 넘기고 돌아간 뒤
+     * Tomcat 이 파일을 여는 사이에 지워지지 않도록 바로 지우지 않는다.
+     */
+    @Scheduled(fixedDelay = 5000)
+    public void deleteEvictedFiles() {
+        long now = System.currentTimeMillis();
+        EvictedFile evicted;
+        while ((evicted = evictedFiles.peek()) != null && evicted.deleteAfter() <= now) {
+            evictedFiles.poll();
+            // 그 사이에 같은 URL 이 같은 내용으로 다시 저장됐으면 같은 파일 이름이므로 지우지 않음
+            String name = evicted.path().getFileName().toString();
+            CachedImage current = lookup(name.substring(0, name.indexOf('_')));
+            if (current == null || !current.path().equals(evicted.path())) {
+                deleteQuietly(evicted.path());
+            }
+        }
+    }
+
+    public synchronized long sizeInBytes() {
+        return totalBytes;
+    }
+
+    private CachedImage fetch(String key, String url) {
+        misses.increment();
+        byte[] thumbnail;
+        try {
+            thumbnail = thumbnailEncoder.encode(profileImageClient.download(url));
+        } catch (KakaoClientException | IOException e) {
+            failures.increment();
+            failedKeys.put(key, Boolean.TRUE);
+            log.warn("Failed to build profile image thumbnail for {}: {}", url, e.getMessage());
+            return null;
+        }
+
+        String etag = hash(thumbnail).substring(0, 32);
+        Path path = directory.resolve(key + "_" + etag + SUFFIX);
+        try {
+            // 다 쓴 뒤에 이름을 바꿔서 읽는 쪽이 반쯤 쓰인 파일을 보지 않도록 함
+            Path temp = Files.createTempFile(directory, key, ".tmp");
+            Files.write(temp, thumbnail);
+            Files.move(temp, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        CachedImage image = new CachedImage(path, thumbnail.length, etag);
+        store(key, image);
+        return image;
+    }
+
+    private synchronized CachedImage lookup(String key) {
+        return index.get(key);
+    }
+
+    private void store(String key, CachedImage image) {
+        List<Path> evicted = new ArrayList<>();
+        synchronized (this) {
+            CachedImage previous = index.put(key, image);
+            if (previous != null) {
+                totalBytes -= previous.size();
+                if (!previous.path().equals(image.path())) {
+                    evicted.add(previous.path());
+                }
+            }
+            totalBytes += image.size();
+            Iterator<Map.Entry<String, CachedImage>> eldest = index.entrySet().iterator();
+            while (totalBytes > maxBytes && eldest.hasNext()) {
+                CachedImage victim = eldest.next().getValue();
+                if (victim == image) {
+                    break;
+                }
+                eldest.remove();
+                totalBytes -= victim.size();
+                evicted.add(victim.path());
+            }
+        }
+        evicted.forEach(this::deleteLater);
+    }
+
+    private void evict(String key) {
+        CachedImage removed;
+        synchronized (this) {
+            removed = index.remove(key);
+            if (removed != null) {
+                totalBytes -= removed.size();
+            }
+        }
+        if (removed != null) {
+            deleteLater(removed.path());
+        }
+    }
+
+    // 재시작 후에도 캐시를 그대로 쓰도록 디렉터리를 읽어서 색인을 만듦. 수정 시각이 오래된 것부터 LRU 앞쪽에 둠
+    private void loadIndex() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory)) {
+            for (Path path : stream) {
+                String name = path.getFileName().toString();
+                if (name.endsWith(".tmp")) {
+                    deleteQuietly(path);
+                } else if (name.endsWith(SUFFIX) && name.indexOf('_') > 0) {
+                    files.add(path);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(this::lastModified));
+        for (Path path : files) {
+            String name = path.getFileName().toString();
+            int separator = name.indexOf('_');
+            String etag = name.substring(separator + 1, name.length() - SUFFIX.length());
+            store(name.substring(0, separator), new CachedImage(path, Files.size(path), etag));
+        }
+        log.info("Loaded {} cached profile images ({} bytes) from {}", index.size(), totalBytes, directory);
+    }
+
+    private FileTime lastModified(Path path) {
+        try {
+            return Files.getLastModifiedTime(path);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private void deleteLater(Path path) {
+        evictedFiles.add(new EvictedFile(path, System.currentTimeMillis() + deleteGraceMillis));
+    }
+
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("Failed to delete cached profile image {}", path, e);
+        }
+    }
+
+    private static String key(String url) {
+        return hash(url.getBytes(StandardCharsets.UTF_8)).substring(0, 40);
+    }
+
+    private static String hash(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static Counter counter(String result) {
+        return Counter.builder("profile-image.cache.requests")
+                .tag("result", result)
+                .register(Metrics.globalRegistry);
+    }
+
+    public record CachedImage(Path path, long size, String etag) {
+    }
+
+    private record EvictedFile(Path path, long deleteAfter) {
+    }
+}
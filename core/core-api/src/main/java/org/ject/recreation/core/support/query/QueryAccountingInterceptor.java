@@ -0,0 +1,45 @@
+package org.ject.recreation.core.support.query;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.ject.recreation.storage.db.core.QueryAccounting;
+import org.ject.recreation.storage.db.core.QueryScope;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.HandlerMapping;
+
+/**
+ * 요청마다 QueryScope 를 열어서 그 요청이 쓴 SQL statement 수와 DB 시간을 db.request.*{scope="METHOD /pattern"} 로 남긴다.
+ * 컨트롤러가 요청 스레드에서 끝나는 동기 처리만 센다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class QueryAccountingInterceptor implements HandlerInterceptor {
+
+    private static final String SCOPE_ATTRIBUTE = QueryAccountingInterceptor.class.getName() + ".SCOPE";
+
+    private final QueryAccounting queryAccounting;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (queryAccounting.isEnabled()) {
+            // URI 그대로 쓰면 태그 종류가 끝없이 늘어나므로 매핑된 패턴을 씀
+            Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            String name = request.getMethod() + " " + (pattern != null ? pattern : "unmatched");
+            request.setAttribute(SCOPE_ATTRIBUTE, queryAccounting.openScope(name));
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(SCOPE_ATTRIBUTE) instanceof QueryScope scope) {
+            request.removeAttribute(SCOPE_ATTRIBUTE);
+            scope.close();
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package org.ject.recreation.core.support.ratelimit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+
+import java.net.InetSocketAddress;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * reactive 스택에서 요청한 클라이언트 IP 를 구한다. servlet 은 Tomcat RemoteIpValve(server.forward-headers-strategy=native)가
+ * internal-proxies 로 같은 일을 하지만, Reactor Netty 는 X-Forwarded-For 를 보낸 쪽을 가리지 않고 믿으므로 여기서 직접 가린다.
+ * 연결한 주소가 login.admission.trusted-proxies 에 맞을 때만 X-Forwarded-For 를 오른쪽부터 따라가서
+ * 처음 나오는 믿을 수 없는 주소를 클라이언트로 본다. trusted-proxies 가 비어 있으면 연결한 주소를 그대로 쓴다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ClientAddressResolver {
+
+    private static final String X_FORWARDED_FOR = "X-Forwarded-For";
+
+    // null 이면 X-Forwarded-For 를 보지 않음
+    private final Pattern trustedProxies;
+
+    public ClientAddressResolver(@Value("${login.admission.trusted-proxies}") String trustedProxies) {
+        this.trustedProxies = trustedProxies.isBlank() ? null : Pattern.compile(trustedProxies);
+    }
+
+    public String resolve(ServerHttpRequest request) {
+        String address = hostAddress(request.getRemoteAddress());
+        if (trustedProxies == null || !trustedProxies.matcher(address).matches()) {
+            return address;
+        }
+        // 클라이언트가 직접 넣은 값은 왼쪽에 남으므로 오른쪽(가까운 프록시가 붙인 값)부터 봄
+        List<String> forwardedFor = request.getHeaders().getValuesAsList(X_FORWARDED_FOR);
+        for (int i = forwardedFor.size() - 1; i >= 0; i--) {
+            address = forwardedFor.get(i);
+            if (!trustedProxies.matcher(address).matches()) {
+                return address;
+            }
+        }
+        return address;
+    }
+
+    private static String hostAddress(InetSocketAddress address) {
+        if (address == null) {
+            return "";
+        }
+        return address.getAddress() != null ? address.getAddress().getHostAddress() : address.getHostString();
+    }
+}
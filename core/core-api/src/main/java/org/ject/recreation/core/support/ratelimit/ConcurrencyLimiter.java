@@ -0,0 +1,37 @@
+package org.ject.recreation.core.support.ratelimit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 동시에 처리 중인 요청 수 상한. 대기열 없이 자리가 없으면 바로 거절한다.
+ */
+public class ConcurrencyLimiter {
+
+    private final int limit;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    public ConcurrencyLimiter(int limit) {
+        this.limit = limit;
+    }
+
+    public boolean tryAcquire() {
+        while (true) {
+            int current = inFlight.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    public void release() {
+        inFlight.decrementAndGet();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+}
@@ -0,0 +1,62 @@
+package org.ject.recreation.core.support.ratelimit;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 키(클라이언트 IP 등)별 token bucket 을 GCRA 로 구현한 것.
+ * 키마다 "다음 요청이 허용되는 이론적 시각(TAT)" 하나만 저장하고 CAS 로 갱신하므로 락이 없다.
+ * 키는 고정 크기 배열에 해시로 매핑되어 키 종류가 아무리 많아도 메모리는 buckets * 8 바이트로 고정된다.
+ * 해시가 겹치는 키끼리는 bucket 을 나눠 쓰므로 그만큼 더 엄격하게 제한된다.
+ */
+public class GcraRateLimiter {
+
+    private final AtomicLongArray theoreticalArrivalTimes;
+
+    private final int mask;
+
+    // 요청 하나가 소비하는 시간 (1 / rate)
+    private final long emissionIntervalNanos;
+
+    // 이 시간만큼 미리 당겨 쓸 수 있음 (burst - 1 개의 요청)
+    private final long burstToleranceNanos;
+
+    private final long origin = System.nanoTime();
+
+    public GcraRateLimiter(int buckets, double permitsPerSecond, int burst) {
+        if (buckets <= 0 || Integer.bitCount(buckets) != 1) {
+            throw new IllegalArgumentException("buckets must be a power of two: " + buckets);
+        }
+        if (permitsPerSecond <= 0 || burst < 1) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive and burst at least 1");
+        }
+        this.theoreticalArrivalTimes = new AtomicLongArray(buckets);
+        this.mask = buckets - 1;
+        this.emissionIntervalNanos = (long) (1_000_000_000L / permitsPerSecond);
+        this.burstToleranceNanos = emissionIntervalNanos * (burst - 1);
+    }
+
+    public boolean tryAcquire(String key) {
+        return tryAcquire(key, System.nanoTime());
+    }
+
+    boolean tryAcquire(String key, long nowNanos) {
+        int index = spread(key.hashCode()) & mask;
+        // 0 은 "기록 없음" 으로 쓰므로 현재 시각은 항상 1 이상
+        long now = nowNanos - origin + 1;
+        while (true) {
+            long stored = theoreticalArrivalTimes.get(index);
+            long tat = Math.max(stored, now);
+            if (tat - now > burstToleranceNanos) {
+                return false;
+            }
+            if (theoreticalArrivalTimes.compareAndSet(index, stored, tat + emissionIntervalNanos)) {
+                return true;
+            }
+        }
+    }
+
+    private static int spread(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
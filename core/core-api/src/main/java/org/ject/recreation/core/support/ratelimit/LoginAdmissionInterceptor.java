@@ -0,0 +1,69 @@
+package org.ject.recreation.core.support.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+/**
+ * 로그인 요청 앞단의 admission control. IP 별 rate limit 을 먼저 보고, 통과하면 전체 동시 처리 수 자리를 잡는다.
+ * 거절은 ApiControllerAdvice 를 거쳐 429 로 나간다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+public class LoginAdmissionInterceptor implements HandlerInterceptor {
+
+    private static final String ACQUIRED_ATTRIBUTE = LoginAdmissionInterceptor.class.getName() + ".ACQUIRED";
+
+    private final GcraRateLimiter rateLimiter;
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final Counter rateRejected;
+
+    private final Counter concurrencyRejected;
+
+    public LoginAdmissionInterceptor(@Value("${login.admission.buckets}") int buckets,
+                                     @Value("${login.admission.permits-per-second}") double permitsPerSecond,
+                                     @Value("${login.admission.burst}") int burst,
+                                     @Value("${login.admission.max-concurrent}") int maxConcurrent) {
+        this.rateLimiter = new GcraRateLimiter(buckets, permitsPerSecond, burst);
+        this.concurrencyLimiter = new ConcurrencyLimiter(maxConcurrent);
+        this.rateRejected = Counter.builder("login.admission.rejected").tag("reason", "rate")
+                .register(Metrics.globalRegistry);
+        this.concurrencyRejected = Counter.builder("login.admission.rejected").tag("reason", "concurrency")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("login.admission.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlight)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!rateLimiter.tryAcquire(request.getRemoteAddr())) {
+            rateRejected.increment();
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejected.increment();
+            throw new CoreException(ErrorType.TOO_MANY_REQUESTS);
+        }
+        request.setAttribute(ACQUIRED_ATTRIBUTE, Boolean.TRUE);
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler,
+                                Exception ex) {
+        if (request.getAttribute(ACQUIRED_ATTRIBUTE) != null) {
+            request.removeAttribute(ACQUIRED_ATTRIBUTE);
+            concurrencyLimiter.release();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package org.ject.recreation.core.support.ratelimit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Metrics;
+import org.ject.recreation.core.api.controller.ApiControllerAdvice;
+import org.ject.recreation.core.support.error.CoreException;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.ject.recreation.core.support.response.ApiResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.stereotype.Component;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+/**
+ * reactive 프로필의 로그인 admission control. LoginAdmissionInterceptor 와 같은 설정, 같은 메트릭을 쓴다.
+ * 동시 처리 수 자리는 응답이 끝나거나 취소될 때 돌려준다.
+ */
+@Component
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class LoginAdmissionWebFilter implements WebFilter {
+
+    private static final String LOGIN_PATH = "/login/kakao";
+
+    private final GcraRateLimiter rateLimiter;
+
+    private final ConcurrencyLimiter concurrencyLimiter;
+
+    private final ApiControllerAdvice apiControllerAdvice;
+
+    private final ClientAddressResolver clientAddressResolver;
+
+    // 거절 응답은 본문이 항상 같으므로 한 번만 인코딩
+    private final byte[] rejectedBody;
+
+    private final Counter rateRejected;
+
+    private final Counter concurrencyRejected;
+
+    public LoginAdmissionWebFilter(ApiControllerAdvice apiControllerAdvice,
+                                   ClientAddressResolver clientAddressResolver,
+                                   ObjectMapper objectMapper,
+                                   @Value("${login.admission.buckets}") int buckets,
+                                   @Value("${login.admission.permits-per-second}") double permitsPerSecond,
+                                   @Value("${login.admission.burst}") int burst,
+                                   @Value("${login.admission.max-concurrent}") int maxConcurrent) throws JsonProcessingException {
+        this.apiControllerAdvice = apiControllerAdvice;
+        this.clientAddressResolver = clientAddressResolver;
+        this.rateLimiter = new GcraRateLimiter(buckets, permitsPerSecond, burst);
+        this.concurrencyLimiter = new ConcurrencyLimiter(maxConcurrent);
+        this.rejectedBody = objectMapper.writeValueAsBytes(ApiResponse.error(ErrorType.TOO_MANY_REQUESTS));
+        this.rateRejected = Counter.builder("login.admission.rejected").tag("reason", "rate")
+                .register(Metrics.globalRegistry);
+        this.concurrencyRejected = Counter.builder("login.admission.rejected").tag("reason", "concurrency")
+                .register(Metrics.globalRegistry);
+        Gauge.builder("login.admission.in-flight", concurrencyLimiter, ConcurrencyLimiter::getInFlight)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (exchange.getRequest().getMethod() != HttpMethod.POST
+                || !LOGIN_PATH.equals(exchange.getRequest().getPath().pathWithinApplication().value())) {
+            return chain.filter(exchange);
+        }
+        if (!rateLimiter.tryAcquire(clientAddressResolver.resolve(exchange.getRequest()))) {
+            rateRejected.increment();
+            return reject(exchange);
+        }
+        if (!concurrencyLimiter.tryAcquire()) {
+            concurrencyRejected.increment();
+            return reject(exchange);
+        }
+        return chain.filter(exchange).doFinally(signal -> concurrencyLimiter.release());
+    }
+
+    private Mono<Void> reject(ServerWebExchange exchange) {
+        // api.errors 카운터와 로그는 servlet 과 같이 ApiControllerAdvice 에서 처리
+        apiControllerAdvice.handleCoreException(new CoreException(ErrorType.TOO_MANY_REQUESTS));
+        ServerHttpResponse response = exchange.getResponse();
+        response.setStatusCode(ErrorType.TOO_MANY_REQUESTS.getStatus());
+        response.getHeaders().setContentType(MediaType.APPLICATION_JSON);
+        response.getHeaders().setContentLength(rejectedBody.length);
+        return response.writeWith(Mono.just(response.bufferFactory().wrap(rejectedBody)));
+    }
+}
@@ -3,31 +3,49 @@ package org.ject.recreation.core.support.response;
 import org.ject.recreation.core.support.error.ErrorMessage;
 import org.ject.recreation.core.support.error.ErrorType;
 
+import java.util.EnumMap;
+import java.util.Map;
+
 public class ApiResponse<S> {
+    // 본문이 항상 같은 응답은 미리 만들어 둠 (ApiResponseHttpMessageConverter 에서 인코딩 결과까지 캐시)
+    private static final ApiResponse<?> SUCCESS = new ApiResponse<>(ResultType.SUCCESS, null, null, null);
+    private static final Map<ErrorType, ApiResponse<?>> ERRORS = new EnumMap<>(ErrorType.class);
+
+    static {
+        for (ErrorType errorType : ErrorType.values()) {
+            ERRORS.put(errorType, new ApiResponse<>(ResultType.ERROR, null, new ErrorMessage(errorType), errorType));
+        }
+    }
+
     private final ResultType result;
     private final S data;
     private final ErrorMessage error;
+    private final ErrorType errorType;
 
-    private ApiResponse(ResultType result, S data, ErrorMessage error) {
+    private ApiResponse(ResultType result, S data, ErrorMessage error, ErrorType errorType) {
         this.result = result;
         this.data = data;
         this.error = error;
+        this.errorType = errorType;
     }
 
     public static ApiResponse<?> success() {
-        return new ApiResponse<>(ResultType.SUCCESS, null, null);
+        return SUCCESS;
     }
 
     public static <S> ApiResponse<S> success(S data) {
-        return new ApiResponse<>(ResultType.SUCCESS, data, null);
+        return new ApiResponse<>(ResultType.SUCCESS, data, null, null);
     }
 
     public static ApiResponse<?> error(ErrorType error) {
-        return new ApiResponse<>(ResultType.ERROR, null, new ErrorMessage(error));
+        return ERRORS.get(error);
     }
 
     public static ApiResponse<?> error(ErrorType error, Object errorData) {
-        return new ApiResponse<>(ResultType.ERROR, null, new ErrorMessage(error, errorData));
+        if (errorData == null) {
+            return ERRORS.get(error);
+        }
+        return new ApiResponse<>(ResultType.ERROR, null, new ErrorMessage(error, errorData), error);
     }
 
     public ResultType getResult() {
@@ -41,4 +59,8 @@ public class ApiResponse<S> {
     public ErrorMessage getError() {
         return error;
     }
+
+    ErrorType errorType() {
+        return errorType;
+    }
 }
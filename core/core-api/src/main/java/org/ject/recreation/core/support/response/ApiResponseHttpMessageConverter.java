@@ -0,0 +1,132 @@
+package org.ject.recreation.core.support.response;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.ject.recreation.core.support.error.ErrorType;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * ApiResponse 전용 converter.
+ * 봉투(result/error) 부분은 기동 시점에 ObjectMapper 로 한 번 인코딩해 두고, 요청마다 data 만 직렬화한다.
+ * data 가 없는 success / error 응답은 본문 전체를 캐시해서 그대로 내려준다.
+ */
+public class ApiResponseHttpMessageConverter extends AbstractHttpMessageConverter<ApiResponse<?>> {
+
+    // 봉투를 prefix/suffix 로 자르기 위한 자리표시자
+    private static final String DATA_MARKER = "__api_response_data__";
+
+    private final ObjectWriter dataWriter;
+
+    private final byte[] successBody;
+
+    private final Envelope successEnvelope;
+
+    private final Map<ErrorType, byte[]> errorBodies = new EnumMap<>(ErrorType.class);
+
+    private final Map<ErrorType, Envelope> errorEnvelopes = new EnumMap<>(ErrorType.class);
+
+    public ApiResponseHttpMessageConverter(ObjectMapper objectMapper) {
+        super(MediaType.APPLICATION_JSON, new MediaType("application", "*+json"));
+        this.dataWriter = objectMapper.writer().without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        try {
+            byte[] marker = objectMapper.writeValueAsBytes(DATA_MARKER);
+            this.successBody = objectMapper.writeValueAsBytes(ApiResponse.success());
+            this.successEnvelope = Envelope.split(objectMapper.writeValueAsBytes(ApiResponse.success(DATA_MARKER)), marker);
+            for (ErrorType errorType : ErrorType.values()) {
+                errorBodies.put(errorType, objectMapper.writeValueAsBytes(ApiResponse.error(errorType)));
+                errorEnvelopes.put(errorType,
+                        Envelope.split(objectMapper.writeValueAsBytes(ApiResponse.error(errorType, DATA_MARKER)), marker));
+            }
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to pre-encode ApiResponse envelopes", e);
+        }
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return ApiResponse.class.isAssignableFrom(clazz);
+    }
+
+    @Override
+    public boolean canRead(Class<?> clazz, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected ApiResponse<?> readInternal(Class<? extends ApiResponse<?>> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("ApiResponse is a write-only type", inputMessage);
+    }
+
+    @Override
+    protected Long getContentLength(ApiResponse<?> response, MediaType contentType) {
+        byte[] body = constantBody(response);
+        return body != null ? (long) body.length : null;
+    }
+
+    @Override
+    protected void writeInternal(ApiResponse<?> response, HttpOutputMessage outputMessage) throws IOException {
+        OutputStream out = outputMessage.getBody();
+        byte[] body = constantBody(response);
+        if (body != null) {
+            out.write(body);
+            return;
+        }
+
+        Envelope envelope;
+        Object data;
+        if (response.getResult() == ResultType.SUCCESS) {
+            envelope = successEnvelope;
+            data = response.getData();
+        } else {
+            envelope = errorEnvelopes.get(response.errorType());
+            data = response.getError().getData();
+        }
+        out.write(envelope.prefix());
+        dataWriter.writeValue(out, data);
+        out.write(envelope.suffix());
+    }
+
+    private byte[] constantBody(ApiResponse<?> response) {
+        if (response.getResult() == ResultType.SUCCESS) {
+            return response.getData() == null ? successBody : null;
+        }
+        return response.getError().getData() == null ? errorBodies.get(response.errorType()) : null;
+    }
+
+    private record Envelope(byte[] prefix, byte[] suffix) {
+
+        static Envelope split(byte[] encoded, byte[] marker) {
+            int index = indexOf(encoded, marker);
+            if (index < 0) {
+                throw new IllegalStateException("Data marker not found in encoded ApiResponse");
+            }
+            return new Envelope(Arrays.copyOfRange(encoded, 0, index),
+                    Arrays.copyOfRange(encoded, index + marker.length, encoded.length));
+        }
+
+        private static int indexOf(byte[] source, byte[] target) {
+            outer:
+            for (int i = 0; i <= source.length - target.length; i++) {
+                for (int j = 0; j < target.length; j++) {
+                    if (source[i + j] != target[j]) {
+                        continue outer;
+                    }
+                }
+                return i;
+            }
+            return -1;
+        }
+    }
+}
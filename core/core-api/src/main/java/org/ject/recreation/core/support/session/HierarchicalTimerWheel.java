@@ -0,0 +1,124 @@
+package org.ject.recreation.core.support.session;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+import java.util.function.IntToLongFunction;
+
+/**
+ * int id 를 만료 시각별로 관리하는 계층형 타이머 휠.
+ * 레벨마다 64 칸이고, 위 레벨 칸은 차례가 오면 실제 만료 시각 기준으로 아래 레벨에 다시 배치된다.
+ * 칸별 목록은 id 를 인덱스로 쓰는 int 배열 연결 리스트라서 항목 수와 무관하게 추가 객체를 만들지 않는다.
+ * id 하나는 한 번에 한 칸에만 있고, 이미 휠에 있는 id 를 다시 schedule 하면 무시한다
+ * (그 칸이 돌아왔을 때 deadlineMillis 로 실제 만료 시각을 다시 보고 판단하면 됨).
+ * 스레드 안전하지 않으므로 호출하는 쪽에서 동기화해야 한다.
+ */
+public class HierarchicalTimerWheel {
+
+    private static final int NIL = -1;
+
+    // next[id] 가 이 값이면 휠에 없는 id
+    private static final int UNSCHEDULED = -2;
+
+    private static final int BITS = 6;
+
+    private static final int WHEEL_SIZE = 1 << BITS;
+
+    private static final int MASK = WHEEL_SIZE - 1;
+
+    private final long tickMillis;
+
+    private final int levels;
+
+    private final int[][] heads;
+
+    private final int[] next;
+
+    private final IntToLongFunction deadlineMillis;
+
+    private long currentTick;
+
+    public HierarchicalTimerWheel(int capacity, long tickMillis, int levels, long startMillis,
+                                  IntToLongFunction deadlineMillis) {
+        this.tickMillis = tickMillis;
+        this.levels = levels;
+        this.heads = new int[levels][WHEEL_SIZE];
+        for (int[] level : heads) {
+            Arrays.fill(level, NIL);
+        }
+        this.next = new int[capacity];
+        Arrays.fill(next, UNSCHEDULED);
+        this.deadlineMillis = deadlineMillis;
+        this.currentTick = startMillis / tickMillis;
+    }
+
+    public void schedule(int id, long deadline) {
+        if (next[id] != UNSCHEDULED) {
+            return;
+        }
+        // 현재 tick 칸은 이미 처리됐으므로 최소 다음 tick 에 배치
+        place(id, Math.max(toTick(deadline), currentTick + 1));
+    }
+
+    /**
+     * nowMillis 까지 tick 을 진행하면서 만료 칸에 있던 id 를 onExpire 로 넘긴다.
+     * onExpire 안에서 같은 id 를 다시 schedule 해도 된다.
+     */
+    public void advance(long nowMillis, IntConsumer onExpire) {
+        long targetTick = nowMillis / tickMillis;
+        while (currentTick < targetTick) {
+            currentTick++;
+            for (int level = 1; level < levels; level++) {
+                if ((currentTick & ((1L << (BITS * level)) - 1)) != 0) {
+                    break;
+                }
+                int id = detach(level, bucket(currentTick, level));
+                while (id != NIL) {
+                    int following = next[id];
+                    next[id] = UNSCHEDULED;
+                    place(id, Math.max(toTick(deadlineMillis.applyAsLong(id)), currentTick));
+                    id = following;
+                }
+            }
+            int id = detach(0, bucket(currentTick, 0));
+            while (id != NIL) {
+                int following = next[id];
+                next[id] = UNSCHEDULED;
+                onExpire.accept(id);
+                id = following;
+            }
+        }
+    }
+
+    private void place(int id, long deadlineTick) {
+        long delta = deadlineTick - currentTick;
+        for (int level = 0; level < levels; level++) {
+            if (delta < 1L << (BITS * (level + 1))) {
+                push(level, bucket(deadlineTick, level), id);
+                return;
+            }
+        }
+        // 휠 범위를 넘는 항목은 가장 먼 칸에 두고, 그 칸이 내려올 때 다시 배치함
+        long latestTick = currentTick + (1L << (BITS * levels)) - 1;
+        push(levels - 1, bucket(latestTick, levels - 1), id);
+    }
+
+    private long toTick(long millis) {
+        // 만료 시각보다 먼저 꺼내지 않도록 올림
+        return (millis + tickMillis - 1) / tickMillis;
+    }
+
+    private int bucket(long tick, int level) {
+        return (int) ((tick >>> (BITS * level)) & MASK);
+    }
+
+    private void push(int level, int bucket, int id) {
+        next[id] = heads[level][bucket];
+        heads[level][bucket] = id;
+    }
+
+    private int detach(int level, int bucket) {
+        int head = heads[level][bucket];
+        heads[level][bucket] = NIL;
+        return head;
+    }
+}
@@ -0,0 +1,462 @@
+package org.ject.recreation.core.support.session;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.concurrent.locks.StampedLock;
+
+/**
+ * 세션 id -> email 을 memory-mapped 파일에 저장하는 세션 저장소.
+ * 고정 크기 슬롯을 open addressing(linear probing) 해시 테이블로 쓰기 때문에 세션 수가 늘어도 힙 객체가 늘지 않고,
+ * 프로세스가 재시작돼도 같은 파일을 다시 열면 세션이 유지된다.
+ * 만료는 HierarchicalTimerWheel 로 처리하고, 전체 스캔은 파일을 다시 열 때 한 번만 한다.
+ * 삭제는 backward-shift 로 뒤 항목을 당겨 채우므로 tombstone 이 쌓이지 않고, 없는 id 조회도 클러스터 끝에서 멈춘다.
+ * (tombstone 은 이전 버전 파일에서만 나오며 다시 열 때 정리한다)
+ */
+public class OffHeapSessionStore implements Closeable {
+
+    private static final int MAGIC = 0x52435353;
+
+    private static final int VERSION = 1;
+
+    private static final int HEADER_SIZE = 64;
+
+    private static final int SLOT_SIZE = 288;
+
+    private static final int STATE_OFFSET = 0;
+
+    private static final int EMAIL_LENGTH_OFFSET = 2;
+
+    private static final int EXPIRES_AT_OFFSET = 8;
+
+    private static final int ID_HIGH_OFFSET = 16;
+
+    private static final int ID_LOW_OFFSET = 24;
+
+    private static final int EMAIL_OFFSET = 32;
+
+    public static final int MAX_EMAIL_BYTES = SLOT_SIZE - EMAIL_OFFSET;
+
+    private static final byte EMPTY = 0;
+
+    private static final byte LIVE = 1;
+
+    private static final byte DELETED = 2;
+
+    private static final int ID_LENGTH = 32;
+
+    private static final long TICK_MILLIS = 1000;
+
+    private static final int WHEEL_LEVELS = 4;
+
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final FileChannel channel;
+
+    private final MappedByteBuffer buffer;
+
+    private final int capacity;
+
+    private final int mask;
+
+    private final long ttlMillis;
+
+    private final HierarchicalTimerWheel timerWheel;
+
+    private final StampedLock lock = new StampedLock();
+
+    private final SecureRandom random = new SecureRandom();
+
+    private volatile int liveCount;
+
+    // 이전 버전 파일에서 정리하지 못하고 남은 tombstone 수 (빈 슬롯이 하나도 없을 때만 남음)
+    private volatile int tombstones;
+
+    // backward-shift 때 슬롯을 옮기는 버퍼 (write lock 안에서만 씀)
+    private final byte[] slotBuffer = new byte[SLOT_SIZE];
+
+    private OffHeapSessionStore(FileChannel channel, MappedByteBuffer buffer, int capacity, Duration ttl, long nowMillis) {
+        this.channel = channel;
+        this.buffer = buffer;
+        this.capacity = capacity;
+        this.mask = capacity - 1;
+        this.ttlMillis = ttl.toMillis();
+        this.timerWheel = new HierarchicalTimerWheel(capacity, TICK_MILLIS, WHEEL_LEVELS, nowMillis, this::expiresAt);
+    }
+
+    public static OffHeapSessionStore open(Path path, int capacity, Duration ttl, long nowMillis) throws IOException {
+        if (capacity < 64 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Session store capacity must be a power of two >= 64");
+        }
+        long size = HEADER_SIZE + (long) capacity * SLOT_SIZE;
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Session store capacity is too large for a single mapping");
+        }
+
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        FileChannel channel = FileChannel.open(path,
+                StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        boolean reusable = channel.size() == size;
+        if (!reusable) {
+            channel.truncate(0);
+        }
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+        if (reusable && !hasValidHeader(buffer, capacity)) {
+            clear(buffer, size);
+            reusable = false;
+        }
+
+        OffHeapSessionStore store = new OffHeapSessionStore(channel, buffer, capacity, ttl, nowMillis);
+        if (reusable) {
+            store.recover(nowMillis);
+        } else {
+            store.writeHeader();
+        }
+        return store;
+    }
+
+    public int size() {
+        return liveCount;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * 탐색 길이에 영향을 주는 사용 중 슬롯 수 (live + tombstone). 부하율은 이 값으로 본다.
+     */
+    public int occupied() {
+        return liveCount + tombstones;
+    }
+
+    public String create(String email, long nowMillis) {
+        byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        if (emailBytes.length > MAX_EMAIL_BYTES) {
+            throw new IllegalArgumentException("Email is too long for the session store");
+        }
+        long high = random.nextLong();
+        long low = random.nextLong();
+        long expiresAt = nowMillis + ttlMillis;
+
+        long stamp = lock.writeLock();
+        try {
+            int slot = findFreeSlot(low);
+            if (slot < 0) {
+                throw new IllegalStateException("Off-heap session store is full");
+            }
+            int base = offset(slot);
+            if (buffer.get(base + STATE_OFFSET) == DELETED) {
+                tombstones--;
+            }
+            buffer.putLong(base + EXPIRES_AT_OFFSET, expiresAt);
+            buffer.putLong(base + ID_HIGH_OFFSET, high);
+            buffer.putLong(base + ID_LOW_OFFSET, low);
+            buffer.putShort(base + EMAIL_LENGTH_OFFSET, (short) emailBytes.length);
+            buffer.put(base + EMAIL_OFFSET, emailBytes);
+            buffer.put(base + STATE_OFFSET, LIVE);
+            timerWheel.schedule(slot, expiresAt);
+            liveCount++;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        return HEX.toHexDigits(high) + HEX.toHexDigits(low);
+    }
+
+    /**
+     * 세션 id 에 해당하는 email. 없거나 만료됐으면 null.
+     * 남은 시간이 TTL 의 절반 아래로 떨어지면 만료 시각을 연장한다.
+     */
+    /**
+     * 남은 시간이 ttl 의 절반보다 적으면 만료 시각을 now + ttl 로 늘리고 renewed 를 true 로 돌려준다.
+     * 쿠키도 같이 늘려야 하므로 호출하는 쪽은 renewed 일 때 쿠키를 다시 내려줘야 함.
+     */
+    public Resolution resolve(String id, long nowMillis) {
+        if (!isValidId(id)) {
+            return null;
+        }
+        long high = HexFormat.fromHexDigitsToLong(id, 0, 16);
+        long low = HexFormat.fromHexDigitsToLong(id, 16, ID_LENGTH);
+
+        Entry entry = null;
+        long stamp = lock.tryOptimisticRead();
+        if (stamp != 0) {
+            entry = read(high, low);
+            if (!lock.validate(stamp)) {
+                stamp = 0;
+            }
+        }
+        if (stamp == 0) {
+            stamp = lock.readLock();
+            try {
+                entry = read(high, low);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+
+        if (entry == null || entry.expiresAt() <= nowMillis) {
+            return null;
+        }
+        if (entry.expiresAt() - nowMillis < ttlMillis / 2) {
+            updateExpiresAt(high, low, nowMillis + ttlMillis);
+            return new Resolution(entry.email(), true);
+        }
+        return new Resolution(entry.email(), false);
+    }
+
+    public void invalidate(String id) {
+        if (!isValidId(id)) {
+            return;
+        }
+        // 슬롯은 타이머 휠에서 해당 칸이 돌아올 때 정리됨
+        updateExpiresAt(HexFormat.fromHexDigitsToLong(id, 0, 16), HexFormat.fromHexDigitsToLong(id, 16, ID_LENGTH), 0);
+    }
+
+    public void expire(long nowMillis) {
+        long stamp = lock.writeLock();
+        try {
+            timerWheel.advance(nowMillis, slot -> {
+                int base = offset(slot);
+                if (buffer.get(base + STATE_OFFSET) != LIVE) {
+                    return;
+                }
+                long expiresAt = buffer.getLong(base + EXPIRES_AT_OFFSET);
+                if (expiresAt <= nowMillis) {
+                    free(slot);
+                } else {
+                    timerWheel.schedule(slot, expiresAt);
+                }
+            });
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        long stamp = lock.writeLock();
+        try {
+            buffer.force();
+            channel.close();
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private void recover(long nowMillis) {
+        // 만료된 항목은 일단 tombstone 으로 바꾼 뒤 한 번에 정리함
+        for (int slot = 0; slot < capacity; slot++) {
+            int base = offset(slot);
+            if (buffer.get(base + STATE_OFFSET) == LIVE && buffer.getLong(base + EXPIRES_AT_OFFSET) <= nowMillis) {
+                buffer.put(base + STATE_OFFSET, DELETED);
+            }
+        }
+        compactTombstones();
+
+        int live = 0;
+        int deleted = 0;
+        for (int slot = 0; slot < capacity; slot++) {
+            byte state = buffer.get(offset(slot) + STATE_OFFSET);
+            if (state == LIVE) {
+                timerWheel.schedule(slot, expiresAt(slot));
+                live++;
+            } else if (state == DELETED) {
+                deleted++;
+            }
+        }
+        liveCount = live;
+        tombstones = deleted;
+    }
+
+    /**
+     * tombstone 을 모두 EMPTY 로 바꾸고 live 항목을 클러스터 순서대로 홈에서 가장 가까운 빈 슬롯으로 옮겨 다시 넣는다.
+     * 원래 EMPTY 였던 슬롯 다음부터 돌아야 어떤 항목의 탐색 경로도 시작점을 넘지 않으므로, EMPTY 가 하나도 없으면 하지 않는다.
+     */
+    private void compactTombstones() {
+        int start = -1;
+        boolean hasTombstone = false;
+        for (int slot = 0; slot < capacity; slot++) {
+            byte state = buffer.get(offset(slot) + STATE_OFFSET);
+            if (state == EMPTY && start < 0) {
+                start = slot;
+            } else if (state == DELETED) {
+                hasTombstone = true;
+            }
+        }
+        if (start < 0 || !hasTombstone) {
+            return;
+        }
+        for (int slot = 0; slot < capacity; slot++) {
+            int base = offset(slot);
+            if (buffer.get(base + STATE_OFFSET) == DELETED) {
+                buffer.put(base + STATE_OFFSET, EMPTY);
+            }
+        }
+        // 앞에서 옮긴 항목은 모두 지금 위치보다 앞에 있으므로, 홈부터 찾은 첫 EMPTY 는 항상 지금 위치 이전임
+        for (int i = 1; i <= capacity; i++) {
+            int slot = (start + i) & mask;
+            if (buffer.get(offset(slot) + STATE_OFFSET) != LIVE) {
+                continue;
+            }
+            int target = home(buffer.getLong(offset(slot) + ID_LOW_OFFSET));
+            while (target != slot && buffer.get(offset(target) + STATE_OFFSET) != EMPTY) {
+                target = (target + 1) & mask;
+            }
+            if (target != slot) {
+                move(slot, target);
+            }
+        }
+    }
+
+    private Entry read(long high, long low) {
+        int slot = findSlot(high, low);
+        if (slot < 0) {
+            return null;
+        }
+        int base = offset(slot);
+        // optimistic read 중에는 값이 깨져 있을 수 있으므로 길이를 범위 안으로 제한함
+        int length = Math.min(buffer.getShort(base + EMAIL_LENGTH_OFFSET) & 0xFFFF, MAX_EMAIL_BYTES);
+        byte[] emailBytes = new byte[length];
+        buffer.get(base + EMAIL_OFFSET, emailBytes);
+        return new Entry(new String(emailBytes, StandardCharsets.UTF_8), buffer.getLong(base + EXPIRES_AT_OFFSET));
+    }
+
+    private void updateExpiresAt(long high, long low, long expiresAt) {
+        long stamp = lock.writeLock();
+        try {
+            int slot = findSlot(high, low);
+            if (slot >= 0) {
+                buffer.putLong(offset(slot) + EXPIRES_AT_OFFSET, expiresAt);
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    private int findSlot(long high, long low) {
+        int slot = home(low);
+        for (int probe = 0; probe < capacity; probe++) {
+            int base = offset(slot);
+            byte state = buffer.get(base + STATE_OFFSET);
+            if (state == EMPTY) {
+                return -1;
+            }
+            if (state == LIVE
+                    && buffer.getLong(base + ID_LOW_OFFSET) == low
+                    && buffer.getLong(base + ID_HIGH_OFFSET) == high) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    private int findFreeSlot(long low) {
+        int slot = home(low);
+        for (int probe = 0; probe < capacity; probe++) {
+            if (buffer.get(offset(slot) + STATE_OFFSET) != LIVE) {
+                return slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * backward-shift 삭제. 빈 자리 뒤의 항목 중 홈이 (빈 자리, 항목 위치] 밖에 있는 것, 즉 탐색 경로가 빈 자리를 지나는 것을
+     * 빈 자리로 당기고 그 항목의 자리를 새 빈 자리로 삼아 클러스터 끝(EMPTY)까지 반복한다.
+     */
+    private void free(int slot) {
+        int hole = slot;
+        int current = slot;
+        for (int probe = 1; probe < capacity; probe++) {
+            current = (current + 1) & mask;
+            int base = offset(current);
+            byte state = buffer.get(base + STATE_OFFSET);
+            if (state == EMPTY) {
+                break;
+            }
+            if (state != LIVE) {
+                continue;
+            }
+            int home = home(buffer.getLong(base + ID_LOW_OFFSET));
+            boolean reachable = hole <= current ? hole < home && home <= current : hole < home || home <= current;
+            if (!reachable) {
+                move(current, hole);
+                timerWheel.schedule(hole, expiresAt(hole));
+                hole = current;
+            }
+        }
+        buffer.put(offset(hole) + STATE_OFFSET, EMPTY);
+        liveCount--;
+    }
+
+    // from 의 항목을 to 로 복사하고 from 은 비움. from 에 남은 타이머는 돌아왔을 때 상태를 보고 무시됨
+    private void move(int from, int to) {
+        buffer.get(offset(from), slotBuffer);
+        buffer.put(offset(to), slotBuffer);
+        buffer.put(offset(from) + STATE_OFFSET, EMPTY);
+    }
+
+    private long expiresAt(int slot) {
+        return buffer.getLong(offset(slot) + EXPIRES_AT_OFFSET);
+    }
+
+    private int home(long low) {
+        return (int) (low ^ (low >>> 32)) & mask;
+    }
+
+    private int offset(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private void writeHeader() {
+        buffer.putInt(0, MAGIC);
+        buffer.putInt(4, VERSION);
+        buffer.putInt(8, capacity);
+        buffer.putInt(12, SLOT_SIZE);
+    }
+
+    private static boolean hasValidHeader(MappedByteBuffer buffer, int capacity) {
+        return buffer.getInt(0) == MAGIC
+                && buffer.getInt(4) == VERSION
+                && buffer.getInt(8) == capacity
+                && buffer.getInt(12) == SLOT_SIZE;
+    }
+
+    private static void clear(MappedByteBuffer buffer, long size) {
+        byte[] zeros = new byte[SLOT_SIZE];
+        for (int position = 0; position < size; position += zeros.length) {
+            buffer.put(position, zeros, 0, (int) Math.min(zeros.length, size - position));
+        }
+    }
+
+    private static boolean isValidId(String id) {
+        if (id == null || id.length() != ID_LENGTH) {
+            return false;
+        }
+        for (int i = 0; i < ID_LENGTH; i++) {
+            if (!HexFormat.isHexDigit(id.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private record Entry(String email, long expiresAt) {
+    }
+
+    public record Resolution(String email, boolean renewed) {
+    }
+}
@@ -0,0 +1,142 @@
+package org.ject.recreation.core.support.session;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * email 과 만료 시각을 담은 HMAC-SHA256 서명 토큰.
+ * 형식: {keyId}.{만료 epoch 초}.{base64url(email)}.{base64url(서명)}
+ * 서명은 활성 키로만 만들고 검증은 등록된 모든 키로 하기 때문에, 새 키를 추가하고 활성 키를 바꾼 뒤
+ * 토큰 유효기간이 지나면 이전 키를 지우는 방식으로 교체할 수 있다.
+ */
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+
+    private static final int MIN_KEY_BYTES = 32;
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final Map<String, Mac> macs = new HashMap<>();
+
+    private final String activeKeyId;
+
+    private final Duration ttl;
+
+    public SessionTokenCodec(Map<String, byte[]> keys, String activeKeyId, Duration ttl) {
+        if (!keys.containsKey(activeKeyId)) {
+            throw new IllegalArgumentException("Active session token key '" + activeKeyId + "' is not configured");
+        }
+        keys.forEach((keyId, secret) -> {
+            if (keyId.isEmpty() || keyId.indexOf('.') >= 0) {
+                throw new IllegalArgumentException("Invalid session token key id '" + keyId + "'");
+            }
+            if (secret.length < MIN_KEY_BYTES) {
+                throw new IllegalArgumentException("Session token key '" + keyId + "' must be at least "
+                        + MIN_KEY_BYTES + " bytes");
+            }
+            macs.put(keyId, newMac(secret));
+        });
+        this.activeKeyId = activeKeyId;
+        this.ttl = ttl;
+    }
+
+    /**
+     * "keyId:base64Secret,keyId:base64Secret" 형식의 설정 값을 읽는다.
+     */
+    public static Map<String, byte[]> parseKeys(String value) {
+        Map<String, byte[]> keys = new HashMap<>();
+        for (String entry : value.split(",")) {
+            String trimmed = entry.trim();
+            if (trimmed.isEmpty()) {
+                continue;
+            }
+            int separator = trimmed.indexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Session token key must be 'keyId:base64Secret'");
+            }
+            keys.put(trimmed.substring(0, separator), Base64.getDecoder().decode(trimmed.substring(separator + 1)));
+        }
+        return keys;
+    }
+
+    public Duration getTtl() {
+        return ttl;
+    }
+
+    public String issue(String email, Instant now) {
+        String payload = activeKeyId + "." + now.plus(ttl).getEpochSecond() + "."
+                + ENCODER.encodeToString(email.getBytes(StandardCharsets.UTF_8));
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.US_ASCII);
+        return payload + "." + ENCODER.encodeToString(sign(macs.get(activeKeyId), payloadBytes, payloadBytes.length));
+    }
+
+    /**
+     * 서명과 만료를 확인하고 email 을 돌려준다. 유효하지 않으면 null.
+     */
+    public String verify(String token, Instant now) {
+        if (token == null) {
+            return null;
+        }
+        int keyEnd = token.indexOf('.');
+        int expiryEnd = keyEnd < 0 ? -1 : token.indexOf('.', keyEnd + 1);
+        int signatureStart = token.lastIndexOf('.') + 1;
+        if (keyEnd <= 0 || expiryEnd < 0 || signatureStart <= expiryEnd + 1) {
+            return null;
+        }
+
+        Mac prototype = macs.get(token.substring(0, keyEnd));
+        if (prototype == null) {
+            return null;
+        }
+
+        try {
+            long expiresAt = Long.parseLong(token, keyEnd + 1, expiryEnd, 10);
+            if (expiresAt < now.getEpochSecond()) {
+                return null;
+            }
+            byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+            byte[] expected = sign(prototype, tokenBytes, signatureStart - 1);
+            byte[] actual = DECODER.decode(token.substring(signatureStart));
+            if (!MessageDigest.isEqual(expected, actual)) {
+                return null;
+            }
+            return new String(DECODER.decode(token.substring(expiryEnd + 1, signatureStart - 1)), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            // 숫자/base64 형식이 깨진 토큰
+            return null;
+        }
+    }
+
+    private static Mac newMac(byte[] secret) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(new SecretKeySpec(secret, ALGORITHM));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Failed to initialize " + ALGORITHM, e);
+        }
+    }
+
+    private static byte[] sign(Mac prototype, byte[] input, int length) {
+        // 키 초기화가 끝난 Mac 을 복제해서 요청마다 getInstance/init 하는 비용을 피함
+        Mac mac;
+        try {
+            mac = (Mac) prototype.clone();
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException(ALGORITHM + " does not support clone", e);
+        }
+        mac.update(input, 0, length);
+        return mac.doFinal();
+    }
+}
@@ -0,0 +1,121 @@
+package org.ject.recreation.core.support.thread;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Metrics;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * JFR 의 jdk.VirtualThreadPinned 이벤트를 구독해서 carrier thread pinning 을 보고한다.
+ * 같은 호출 지점(JDK 밖의 첫 프레임)은 처음 한 번만 스택과 함께 로그를 남기고 이후에는 횟수만 센다.
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final int MAX_FRAMES = 12;
+
+    private final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final Duration threshold;
+
+    private final LongAdder pinnedCount = new LongAdder();
+
+    private final Map<String, LongAdder> pinnedSites = new ConcurrentHashMap<>();
+
+    private volatile RecordingStream recordingStream;
+
+    public VirtualThreadPinningMonitor(@Value("${thread.virtual.pinning-threshold:20ms}") Duration threshold) {
+        this.threshold = threshold;
+        FunctionCounter.builder("jvm.threads.virtual.pinned", pinnedCount, LongAdder::sum)
+                .register(Metrics.globalRegistry);
+    }
+
+    @Override
+    public void start() {
+        RecordingStream stream = new RecordingStream();
+        stream.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        stream.onEvent(PINNED_EVENT, this::report);
+        stream.startAsync();
+        recordingStream = stream;
+        log.info("Virtual thread pinning monitor started (threshold={}ms)", threshold.toMillis());
+    }
+
+    @Override
+    public void stop() {
+        RecordingStream stream = recordingStream;
+        recordingStream = null;
+        if (stream != null) {
+            stream.close();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return recordingStream != null;
+    }
+
+    public long getPinnedCount() {
+        return pinnedCount.sum();
+    }
+
+    public Map<String, Long> getPinnedSites() {
+        return pinnedSites.entrySet().stream()
+                .collect(Collectors.toMap(Map.Entry::getKey, entry -> entry.getValue().sum()));
+    }
+
+    private void report(RecordedEvent event) {
+        pinnedCount.increment();
+        List<RecordedFrame> frames = frames(event.getStackTrace());
+        String site = frames.stream()
+                .filter(frame -> !isJdkFrame(frame))
+                .findFirst()
+                .map(this::describe)
+                .orElse("unknown");
+
+        LongAdder siteCount = pinnedSites.computeIfAbsent(site, key -> new LongAdder());
+        siteCount.increment();
+        if (siteCount.sum() == 1) {
+            log.warn("Virtual thread pinned for {}ms at {}\n\tat {}", event.getDuration().toMillis(), site,
+                    frames.stream().map(this::describe).collect(Collectors.joining("\n\tat ")));
+        } else {
+            log.debug("Virtual thread pinned for {}ms at {} ({} times)", event.getDuration().toMillis(), site,
+                    siteCount.sum());
+        }
+    }
+
+    private List<RecordedFrame> frames(RecordedStackTrace stackTrace) {
+        if (stackTrace == null) {
+            return List.of();
+        }
+        List<RecordedFrame> frames = stackTrace.getFrames();
+        return frames.size() > MAX_FRAMES ? frames.subList(0, MAX_FRAMES) : frames;
+    }
+
+    private boolean isJdkFrame(RecordedFrame frame) {
+        String type = frame.getMethod().getType().getName();
+        return type.startsWith("java.") || type.startsWith("jdk.") || type.startsWith("sun.");
+    }
+
+    private String describe(RecordedFrame frame) {
+        return frame.getMethod().getType().getName() + "." + frame.getMethod().getName() + ":" + frame.getLineNumber();
+    }
+}
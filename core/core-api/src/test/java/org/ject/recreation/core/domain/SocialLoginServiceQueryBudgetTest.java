@@ -0,0 +1,96 @@
+package org.ject.recreation.core.domain;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.ject.recreation.client.kakao.KakaoClient;
+import org.ject.recreation.client.kakao.KakaoTokenResponse;
+import org.ject.recreation.client.kakao.KakaoUserInfo;
+import org.ject.recreation.core.api.controller.request.SocialLoginRequestDto;
+import org.ject.recreation.core.support.image.ProfileImageCache;
+import org.ject.recreation.storage.db.core.QueryBudget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * loginWithKakao 한 번이 쓰는 SQL statement 수가 예산 안인지 확인한다.
+ * Kakao 호출은 mock 으로 바꾸고 DB 는 local 프로필의 H2 를 그대로 쓴다.
+ * 신규 가입(insert), 같은 사용자의 재로그인(update), 다른 신규 사용자를 모두 보고, 같은 fingerprint 가 두 번 나오면 N+1 로 본다.
+ */
+@SpringBootTest(properties = {
+        "storage.datasource.core.jdbc-url=jdbc:h2:mem:query-budget;MODE=MySQL;DB_CLOSE_DELAY=-1",
+        "storage.query-accounting.enabled=true",
+        "spring.jpa.properties.hibernate.show_sql=false",
+        "kakao.client-id=test",
+        "kakao.redirect-uri=http://127.0.0.1/login/kakao/callback"
+})
+@ActiveProfiles("local")
+class SocialLoginServiceQueryBudgetTest {
+
+    private static final QueryBudget LOGIN_BUDGET = QueryBudget.maxStatements(2).maxRepeats(1);
+
+    @Autowired
+    private SocialLoginService socialLoginService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private KakaoClient kakaoClient;
+
+    // 로그인 후 썸네일을 미리 받으러 나가지 않도록 함
+    @MockitoBean
+    private ProfileImageCache profileImageCache;
+
+    @BeforeEach
+    void setUp() {
+        // 인가 코드 "user-N.M" 은 N 번 사용자의 M 번째 로그인
+        given(kakaoClient.getToken(anyString()))
+                .willAnswer(invocation -> new KakaoTokenResponse(invocation.getArgument(0), null));
+        given(kakaoClient.getUserInfo(any(KakaoTokenResponse.class))).willAnswer(invocation -> {
+            String code = invocation.<KakaoTokenResponse>getArgument(0).accessToken();
+            String user = code.substring(0, code.indexOf('.'));
+            return new KakaoUserInfo(user + "@test.local", user, "https://k.kakaocdn.net/" + code + ".jpg");
+        });
+    }
+
+    @Test
+    void newUserLoginStaysWithinBudget() {
+        login("user-1.1");
+    }
+
+    @Test
+    void returningUserLoginStaysWithinBudget() {
+        login("user-2.1");
+        login("user-2.2");
+    }
+
+    @Test
+    void anotherNewUserLoginStaysWithinBudget() {
+        login("user-3.1");
+        login("user-4.1");
+    }
+
+    private void login(String code) {
+        SocialLoginRequestDto request = request(code);
+        LOGIN_BUDGET.verify("loginWithKakao(" + code + ")", () -> socialLoginService.loginWithKakao(request, "test"));
+    }
+
+    // SocialLoginRequestDto 는 setter 가 없어서 컨트롤러와 같이 JSON 으로 만듦
+    private SocialLoginRequestDto request(String code) {
+        try {
+            return objectMapper.readValue("{\"code\":\"" + code + "\",\"type\":\"kakao\"}", SocialLoginRequestDto.class);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package org.ject.recreation.loadtest;
+
+import org.springframework.boot.convert.DurationStyle;
+
+import java.time.Duration;
+
+/**
+ * -Dloadtest.* 시스템 프로퍼티로 받는 부하 테스트 설정.
+ */
+record LoadTestOptions(String stack,
+                       int eventLoopThreads,
+                       int concurrency,
+                       Duration warmup,
+                       Duration duration,
+                       int users,
+                       boolean virtualThreads,
+                       Duration stubLatency,
+                       double stubErrorRate,
+                       int stubPayloadBytes,
+                       boolean oidc,
+                       double minThroughput,
+                       Duration maxP99,
+                       String report) {
+
+    static LoadTestOptions fromSystemProperties() {
+        String stack = System.getProperty("loadtest.stack", "servlet");
+        if (!stack.equals("servlet") && !stack.equals("reactive")) {
+            throw new IllegalArgumentException("loadtest.stack must be servlet or reactive: " + stack);
+        }
+        return new LoadTestOptions(
+                stack,
+                Integer.getInteger("loadtest.event-loop-threads", 2),
+                Integer.getInteger("loadtest.concurrency", 64),
+                duration("loadtest.warmup", "10s"),
+                duration("loadtest.duration", "30s"),
+                Integer.getInteger("loadtest.users", 10_000),
+                Boolean.parseBoolean(System.getProperty("loadtest.virtual-threads", "false")),
+                duration("loadtest.stub.latency", "20ms"),
+                Double.parseDouble(System.getProperty("loadtest.stub.error-rate", "0")),
+                Integer.getInteger("loadtest.stub.payload-bytes", 512),
+                Boolean.parseBoolean(System.getProperty("loadtest.oidc", "false")),
+                Double.parseDouble(System.getProperty("loadtest.min-throughput", "0")),
+                duration("loadtest.max-p99", "0s"),
+                System.getProperty("loadtest.report", "build/reports/loadtest/login.json"));
+    }
+
+    boolean reactive() {
+        return stack.equals("reactive");
+    }
+
+    private static Duration duration(String key, String defaultValue) {
+        return DurationStyle.detectAndParse(System.getProperty(key, defaultValue));
+    }
+}
@@ -0,0 +1,217 @@
+package org.ject.recreation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.ject.recreation.CoreApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * core-api 를 로컬 Kakao stub 서버에 붙여 띄운 뒤 POST /login/kakao 를 동시에 호출해서
+ * 처리량과 p50/p99/p999 응답 시간을 보고한다. 외부 네트워크 없이 돌아가며, 기준치를 넘으면 exit code 1 로 끝난다.
+ */
+public class LoginLoadTest {
+
+    static final String CLIENT_ID = "loadtest";
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        // Kakao WebClient 가 쓰는 Reactor Netty 전역 event loop 수. 두 스택을 같은 조건으로 비교하도록 둘 다 고정
+        System.setProperty("reactor.netty.ioWorkerCount", String.valueOf(options.eventLoopThreads()));
+        int exitCode;
+        try (StubKakaoServer stub = new StubKakaoServer(options.stubLatency(), options.stubErrorRate(),
+                options.stubPayloadBytes(), options.oidc(), CLIENT_ID)) {
+            stub.start();
+            try (ConfigurableApplicationContext context = startApplication(options, stub.baseUrl())) {
+                int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+                exitCode = new LoginLoadTest(options, URI.create("http://127.0.0.1:" + port + "/login/kakao")).run();
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    static ConfigurableApplicationContext startApplication(LoadTestOptions options, String stubBaseUrl) {
+        List<String> args = new ArrayList<>(List.of(
+                "--server.port=0",
+                "--spring.threads.virtual.enabled=" + options.virtualThreads(),
+                "--storage.datasource.core.jdbc-url=jdbc:h2:mem:loadtest;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                // 로그 출력이 측정값을 흔들지 않도록 운영과 같은 설정(INFO, 비동기 JSON)을 씀
+                "--logging.config=classpath:logback/logback-prod.xml",
+                "--kakao.auth-base-url=" + stubBaseUrl,
+                "--kakao.api-base-url=" + stubBaseUrl,
+                // 모든 요청이 한 IP 에서 나가므로 IP 별 제한은 풀고 동시 처리 상한만 남김
+                "--login.admission.permits-per-second=1000000",
+                "--login.admission.burst=1000000",
+                "--kakao.oidc.enabled=" + options.oidc(),
+                "--kakao.oidc.issuer=" + stubBaseUrl,
+                "--kakao.client-id=" + CLIENT_ID,
+                "--kakao.redirect-uri=http://127.0.0.1/login/kakao/callback"));
+        if (options.reactive()) {
+            // WebFlux 서버는 event-loop-threads 개의 loop 에서만 요청을 처리함
+            args.add("--spring.profiles.active=local,reactive");
+            args.add("--storage.r2dbc.core.url=r2dbc:h2:mem:///loadtest?options=MODE=MySQL;DB_CLOSE_DELAY=-1");
+            args.add("--reactive.netty.event-loop-threads=" + options.eventLoopThreads());
+        } else {
+            args.add("--spring.profiles.active=local");
+        }
+        return new SpringApplicationBuilder(CoreApiApplication.class).run(args.toArray(String[]::new));
+    }
+
+    private final LoadTestOptions options;
+
+    private final URI loginUri;
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .version(HttpClient.Version.HTTP_1_1)
+            .connectTimeout(Duration.ofSeconds(5))
+            .executor(Executors.newVirtualThreadPerTaskExecutor())
+            .build();
+
+    private final Map<Integer, LongAdder> statusCounts = new ConcurrentHashMap<>();
+
+    private final LongAdder failures = new LongAdder();
+
+    private final AtomicLong codeSequence = new AtomicLong();
+
+    LoginLoadTest(LoadTestOptions options, URI loginUri) {
+        this.options = options;
+        this.loginUri = loginUri;
+    }
+
+    int run() throws InterruptedException, IOException {
+        System.out.printf("Warming up for %ds with %d concurrent clients%n",
+                options.warmup().toSeconds(), options.concurrency());
+        drive(options.warmup());
+        statusCounts.clear();
+        failures.reset();
+
+        System.out.printf("Measuring for %ds%n", options.duration().toSeconds());
+        long start = System.nanoTime();
+        List<LatencyRecorder> recorders = drive(options.duration());
+        double elapsedSeconds = (System.nanoTime() - start) / 1e9;
+
+        long[] latencies = LatencyRecorder.mergeSorted(recorders);
+        long succeeded = statusCounts.entrySet().stream()
+                .filter(entry -> entry.getKey() / 100 == 2)
+                .mapToLong(entry -> entry.getValue().sum())
+                .sum();
+        double throughput = succeeded / elapsedSeconds;
+        long p99 = LatencyRecorder.percentile(latencies, 99);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("stack", options.stack());
+        report.put("eventLoopThreads", options.eventLoopThreads());
+        report.put("concurrency", options.concurrency());
+        report.put("virtualThreads", options.virtualThreads());
+        report.put("oidc", options.oidc());
+        report.put("stubLatencyMs", options.stubLatency().toMillis());
+        report.put("stubErrorRate", options.stubErrorRate());
+        report.put("stubPayloadBytes", options.stubPayloadBytes());
+        report.put("requests", latencies.length);
+        report.put("succeeded", succeeded);
+        report.put("failures", failures.sum());
+        report.put("statusCounts", toSortedMap(statusCounts));
+        report.put("throughputPerSecond", Math.round(throughput * 10) / 10.0);
+        report.put("p50Ms", toMillis(LatencyRecorder.percentile(latencies, 50)));
+        report.put("p99Ms", toMillis(p99));
+        report.put("p999Ms", toMillis(LatencyRecorder.percentile(latencies, 99.9)));
+        report.put("maxMs", toMillis(latencies.length == 0 ? 0 : latencies[latencies.length - 1]));
+        writeReport(report);
+
+        List<String> violations = new ArrayList<>();
+        if (options.minThroughput() > 0 && throughput < options.minThroughput()) {
+            violations.add(String.format("throughput %.1f/s < %.1f/s", throughput, options.minThroughput()));
+        }
+        if (!options.maxP99().isZero() && p99 > options.maxP99().toNanos()) {
+            violations.add(String.format("p99 %.2fms > %dms", toMillis(p99), options.maxP99().toMillis()));
+        }
+        violations.forEach(violation -> System.out.println("FAILED: " + violation));
+        return violations.isEmpty() ? 0 : 1;
+    }
+
+    private List<LatencyRecorder> drive(Duration duration) throws InterruptedException {
+        long deadline = System.nanoTime() + duration.toNanos();
+        List<LatencyRecorder> recorders = new ArrayList<>();
+        try (ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < options.concurrency(); i++) {
+                LatencyRecorder recorder = new LatencyRecorder();
+                recorders.add(recorder);
+                workers.submit(() -> loop(deadline, recorder));
+            }
+            workers.shutdown();
+            if (!workers.awaitTermination(duration.toSeconds() + 60, TimeUnit.SECONDS)) {
+                throw new IllegalStateException("Load test workers did not finish in time");
+            }
+        }
+        return recorders;
+    }
+
+    private void loop(long deadline, LatencyRecorder recorder) {
+        while (System.nanoTime() < deadline) {
+            int user = ThreadLocalRandom.current().nextInt(options.users());
+            // 인가 코드는 매번 달라야 SocialLoginService 의 중복 요청 합치기에 걸리지 않음
+            String code = "user-" + user + "." + codeSequence.incrementAndGet();
+            HttpRequest request = HttpRequest.newBuilder(loginUri)
+                    .timeout(Duration.ofSeconds(10))
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(
+                            "{\"code\":\"" + code + "\",\"type\":\"kakao\"}"))
+                    .build();
+            long start = System.nanoTime();
+            try {
+                HttpResponse<Void> response = httpClient.send(request, HttpResponse.BodyHandlers.discarding());
+                recorder.record(System.nanoTime() - start);
+                statusCounts.computeIfAbsent(response.statusCode(), status -> new LongAdder()).increment();
+            } catch (IOException e) {
+                recorder.record(System.nanoTime() - start);
+                failures.increment();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void writeReport(Map<String, Object> report) throws IOException {
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        String json = objectMapper.writeValueAsString(report);
+        System.out.println(json);
+        Path path = Path.of(options.report());
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, json);
+    }
+
+    private static Map<String, Long> toSortedMap(Map<Integer, LongAdder> counts) {
+        Map<String, Long> sorted = new LinkedHashMap<>();
+        counts.keySet().stream().sorted().forEach(status -> sorted.put(status.toString(), counts.get(status).sum()));
+        return sorted;
+    }
+
+    private static double toMillis(long nanos) {
+        return Math.round(nanos / 10_000.0) / 100.0;
+    }
+}
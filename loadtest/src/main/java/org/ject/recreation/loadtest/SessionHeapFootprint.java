@@ -0,0 +1,139 @@
+package org.ject.recreation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.apache.catalina.Context;
+import org.apache.catalina.Manager;
+import org.apache.catalina.Session;
+import org.ject.recreation.CoreApiApplication;
+import org.ject.recreation.core.support.session.SessionTokenCodec;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.boot.web.embedded.tomcat.TomcatWebServer;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 로그인 사용자 N 명(기본 100만)을 servlet 세션과 서명 토큰으로 각각 유지할 때 서버 힙에 남는 양을 비교한다.
+ * servlet 은 core-api 가 실제로 쓰는 Tomcat Manager 에 HttpSessionLoginSessionManager 와 같은 속성으로 세션을 만들고,
+ * token 은 SignedTokenLoginSessionManager 와 같은 SessionTokenCodec 으로 발급/검증만 한다.
+ * 각 단계 전후로 GC 를 돌린 뒤의 힙 사용량 차이를 retained heap 으로 본다.
+ */
+public class SessionHeapFootprint {
+
+    private static final String USER_EMAIL_ATTRIBUTE = "userEmail";
+
+    public static void main(String[] args) throws Exception {
+        int users = Integer.getInteger("sessions.users", 1_000_000);
+        Path reportPath = Path.of(System.getProperty("sessions.report", "build/reports/loadtest/sessions.json"));
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("users", users);
+        report.put("maxHeapMb", Runtime.getRuntime().maxMemory() / 1024 / 1024);
+        try (ConfigurableApplicationContext context = startApplication()) {
+            report.put("servlet", measureHttpSessions(tomcatManager(context), users));
+            report.put("token", measureTokens(users));
+        }
+
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        System.out.println(json);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, json);
+    }
+
+    private static ConfigurableApplicationContext startApplication() {
+        return new SpringApplicationBuilder(CoreApiApplication.class).run(
+                "--server.port=0",
+                "--spring.profiles.active=local",
+                "--session.mode=servlet",
+                "--storage.datasource.core.jdbc-url=jdbc:h2:mem:sessions;MODE=MySQL;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.config=classpath:logback/logback-prod.xml",
+                "--kakao.client-id=loadtest",
+                "--kakao.redirect-uri=http://127.0.0.1/login/kakao/callback");
+    }
+
+    private static Manager tomcatManager(ConfigurableApplicationContext context) {
+        TomcatWebServer webServer = (TomcatWebServer) ((WebServerApplicationContext) context).getWebServer();
+        return ((Context) webServer.getTomcat().getHost().findChildren()[0]).getManager();
+    }
+
+    private static Map<String, Object> measureHttpSessions(Manager manager, int users) {
+        long before = retainedHeap();
+        long start = System.nanoTime();
+        for (int i = 0; i < users; i++) {
+            // request.getSession().setAttribute(...) 와 같은 세션 생성 + 속성 저장
+            Session session = manager.createSession(null);
+            session.getSession().setAttribute(USER_EMAIL_ATTRIBUTE, email(i));
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long retained = retainedHeap() - before;
+        int active = manager.getActiveSessions();
+
+        // 다음 단계 측정에 섞이지 않도록 모두 만료시킴
+        for (Session session : manager.findSessions()) {
+            session.expire();
+        }
+        return result(retained, active, seconds, users);
+    }
+
+    private static Map<String, Object> measureTokens(int users) {
+        byte[] secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        SessionTokenCodec codec = new SessionTokenCodec(
+                SessionTokenCodec.parseKeys("k1:" + Base64.getEncoder().encodeToString(secret)), "k1",
+                Duration.ofDays(14));
+
+        long before = retainedHeap();
+        long start = System.nanoTime();
+        long tokenBytes = 0;
+        Instant now = Instant.now();
+        for (int i = 0; i < users; i++) {
+            // 토큰은 쿠키로 클라이언트가 들고 있으므로 서버는 발급하고 검증만 함
+            String token = codec.issue(email(i), now);
+            if (codec.verify(token, now) == null) {
+                throw new IllegalStateException("Issued token failed verification");
+            }
+            tokenBytes += token.length();
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        long retained = retainedHeap() - before;
+
+        Map<String, Object> result = result(retained, 0, seconds, users);
+        // 서버 대신 요청마다 쿠키로 오가는 양
+        result.put("averageTokenBytes", tokenBytes / Math.max(1, users));
+        return result;
+    }
+
+    private static Map<String, Object> result(long retained, int active, double seconds, int users) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("activeSessions", active);
+        result.put("retainedHeapMb", Math.round(retained / 1024.0 / 1024.0 * 10) / 10.0);
+        result.put("retainedBytesPerUser", Math.max(0, retained) / Math.max(1, users));
+        result.put("seconds", Math.round(seconds * 100) / 100.0);
+        return result;
+    }
+
+    // GC 를 몇 번 돌려서 살아 있는 객체만 남긴 뒤의 힙 사용량
+    private static long retainedHeap() {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    private static String email(int i) {
+        return "user-" + i + "@loadtest.local";
+    }
+}
@@ -0,0 +1,152 @@
+package org.ject.recreation.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * core-api 를 변형(plain, cds, aot, aot+cds)별로 별도 프로세스로 여러 번 띄워서
+ * 프로세스 시작부터 /health 가 처음 200 을 돌려줄 때까지의 시간과 그 시점의 RSS 중앙값을 보고한다.
+ */
+public class StartupBenchmark {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofSeconds(120);
+
+    private static final HttpClient HTTP_CLIENT = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(200))
+            .build();
+
+    public static void main(String[] args) throws Exception {
+        String jar = System.getProperty("startup.jar");
+        String cdsArchive = System.getProperty("startup.cds-archive");
+        // AOT 실행은 로드하는 클래스가 달라서 spring.aot.enabled=true 로 학습한 archive 를 따로 씀
+        String aotCdsArchive = System.getProperty("startup.aot-cds-archive");
+        boolean aot = Boolean.parseBoolean(System.getProperty("startup.aot", "false"));
+        int runs = Integer.getInteger("startup.runs", 5);
+
+        Map<String, List<String>> variants = new LinkedHashMap<>();
+        variants.put("plain", List.of());
+        variants.put("cds", List.of("-XX:SharedArchiveFile=" + cdsArchive));
+        if (aot) {
+            variants.put("aot", List.of("-Dspring.aot.enabled=true"));
+            variants.put("aot+cds", List.of("-Dspring.aot.enabled=true", "-XX:SharedArchiveFile=" + aotCdsArchive));
+        }
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        for (Map.Entry<String, List<String>> variant : variants.entrySet()) {
+            long[] startupMillis = new long[runs];
+            long[] rssKb = new long[runs];
+            for (int run = 0; run < runs; run++) {
+                long[] measured = measure(jar, variant.getValue());
+                startupMillis[run] = measured[0];
+                rssKb[run] = measured[1];
+            }
+            Map<String, Object> result = new LinkedHashMap<>();
+            result.put("jvmArgs", variant.getValue());
+            result.put("startupMillisMedian", median(startupMillis));
+            result.put("startupMillis", startupMillis);
+            result.put("rssMbMedian", median(rssKb) / 1024);
+            report.put(variant.getKey(), result);
+            System.out.printf("%-8s startup=%dms rss=%dMB%n", variant.getKey(), median(startupMillis),
+                    median(rssKb) / 1024);
+        }
+
+        ObjectMapper objectMapper = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+        Path path = Path.of(System.getProperty("startup.report", "build/reports/loadtest/startup.json"));
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Files.writeString(path, objectMapper.writeValueAsString(report));
+    }
+
+    // [프로세스 시작 ~ 첫 /health 200 까지 ms, 그 시점 RSS(KB)]
+    private static long[] measure(String jar, List<String> jvmArgs) throws IOException, InterruptedException {
+        int port = freePort();
+        List<String> command = new ArrayList<>();
+        command.add(Path.of(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(jvmArgs);
+        command.addAll(List.of("-jar", jar,
+                "--server.port=" + port,
+                "--spring.profiles.active=local",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--logging.config=classpath:logback/logback-prod.xml",
+                "--kakao.client-id=startup",
+                "--kakao.redirect-uri=http://localhost"));
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.to(new File(System.getProperty("java.io.tmpdir"),
+                        "core-api-startup.log")))
+                .start();
+        try {
+            URI health = URI.create("http://127.0.0.1:" + port + "/health");
+            long deadline = start + STARTUP_TIMEOUT.toNanos();
+            while (!isHealthy(health)) {
+                if (!process.isAlive() || System.nanoTime() > deadline) {
+                    throw new IllegalStateException("core-api did not become healthy, see "
+                            + System.getProperty("java.io.tmpdir") + "/core-api-startup.log");
+                }
+                Thread.sleep(5);
+            }
+            long startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            return new long[]{startupMillis, rssKb(process.pid())};
+        } finally {
+            process.destroy();
+            if (!process.waitFor(10, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+            }
+        }
+    }
+
+    private static boolean isHealthy(URI health) throws InterruptedException {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(health).timeout(Duration.ofMillis(500)).GET().build();
+            return HTTP_CLIENT.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() == 200;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    // Linux 는 /proc, 그 외에는 ps 로 읽음
+    private static long rssKb(long pid) throws IOException, InterruptedException {
+        Path status = Path.of("/proc", Long.toString(pid), "status");
+        if (Files.exists(status)) {
+            for (String line : Files.readAllLines(status)) {
+                if (line.startsWith("VmRSS:")) {
+                    return Long.parseLong(line.replaceAll("\\D", ""));
+                }
+            }
+        }
+        Process ps = new ProcessBuilder("ps", "-o", "rss=", "-p", Long.toString(pid)).start();
+        String output = new String(ps.getInputStream().readAllBytes()).trim();
+        ps.waitFor();
+        return output.isEmpty() ? -1 : Long.parseLong(output);
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static long median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
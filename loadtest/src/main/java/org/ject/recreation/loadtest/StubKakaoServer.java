@@ -0,0 +1,247 @@
+package org.ject.recreation.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.math.BigInteger;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.Signature;
+import java.security.interfaces.RSAPublicKey;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * kauth/kapi 의 /oauth/token, /v2/user/me 를 흉내 내는 로컬 서버.
+ * 인가 코드 "user-N.seq" 는 토큰 "token-user-N", 이메일 "user-N@loadtest.local" 로 이어져서 사용자 수를 조절할 수 있다.
+ * oidc 를 켜면 토큰 응답에 RS256 id_token 을 넣고 /.well-known/jwks.json 으로 검증 키를 내려준다.
+ * id_token 은 scope 에 openid 가 있을 때만, email/nickname/picture claim 은 account_email/profile_nickname/profile_image
+ * 를 요청했을 때만 넣는다. scope 는 /oauth/authorize 가 발급한 코드에 묶이고, 부하 테스트가 직접 만든 코드는 전부 동의한 것으로 본다.
+ */
+class StubKakaoServer implements AutoCloseable {
+
+    private static final String TOKEN_PREFIX = "token-";
+
+    private static final String KEY_ID = "stub-key-1";
+
+    private static final Set<String> ALL_SCOPES = Set.of("openid", "account_email", "profile_nickname", "profile_image");
+
+    private final HttpServer server;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final Duration latency;
+
+    private final double errorRate;
+
+    private final String padding;
+
+    private final String clientId;
+
+    // oidc 를 끄면 null
+    private final KeyPair signingKey;
+
+    private final Map<String, Set<String>> scopesByCode = new ConcurrentHashMap<>();
+
+    private final AtomicLong authorizeSequence = new AtomicLong();
+
+    StubKakaoServer(Duration latency, double errorRate, int payloadBytes, boolean oidc, String clientId)
+            throws IOException {
+        this.latency = latency;
+        this.errorRate = errorRate;
+        this.padding = "x".repeat(Math.max(0, payloadBytes));
+        this.clientId = clientId;
+        this.signingKey = oidc ? generateSigningKey() : null;
+        this.server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 1024);
+        server.setExecutor(executor);
+        server.createContext("/oauth/authorize", this::authorize);
+        server.createContext("/oauth/token", this::token);
+        server.createContext("/v2/user/me", this::userInfo);
+        server.createContext("/.well-known/jwks.json", this::jwks);
+    }
+
+    void start() {
+        server.start();
+    }
+
+    String baseUrl() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    // 로그인/동의 화면 없이 바로 redirect_uri 로 코드를 돌려줌. 사용자는 stub 전용 user 파라미터로 고름
+    private void authorize(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String query = exchange.getRequestURI().getRawQuery();
+            String redirectUri = query == null ? null : formValue(query, "redirect_uri");
+            if (redirectUri == null) {
+                respond(exchange, 400, "{\"error\":\"invalid_request\",\"error_description\":\"redirect_uri is required\"}");
+                return;
+            }
+            String user = formValue(query, "user");
+            String code = (user != null ? user : "user-1") + "." + authorizeSequence.incrementAndGet();
+            String scope = formValue(query, "scope");
+            // scope 를 안 보내면 콘솔에 설정된 동의 항목(여기서는 openid 를 뺀 전부)을 씀
+            scopesByCode.put(code, scope == null ? Set.of("account_email", "profile_nickname", "profile_image")
+                    : Set.of(scope.split("[, ]+")));
+            exchange.getResponseHeaders().set("Location", redirectUri + "?code=" + code);
+            exchange.sendResponseHeaders(302, -1);
+        }
+    }
+
+    private void token(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String code = formValue(readBody(exchange), "code");
+            if (delayOrFail(exchange) || code == null) {
+                return;
+            }
+            int sequenceStart = code.lastIndexOf('.');
+            String user = sequenceStart > 0 ? code.substring(0, sequenceStart) : code;
+            Set<String> scopes = scopesByCode.getOrDefault(code, ALL_SCOPES);
+            String idToken = signingKey != null && scopes.contains("openid")
+                    ? ",\"id_token\":\"" + idToken(user, scopes) + "\"" : "";
+            respond(exchange, 200, "{\"token_type\":\"bearer\",\"access_token\":\"" + TOKEN_PREFIX + user
+                    + "\",\"expires_in\":21599,\"refresh_token\":\"refresh-" + code
+                    + "\",\"refresh_token_expires_in\":5183999,\"scope\":\"" + String.join(" ", scopes) + "\""
+                    + idToken + "}");
+        }
+    }
+
+    private void userInfo(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            readBody(exchange);
+            String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+            if (delayOrFail(exchange)) {
+                return;
+            }
+            if (authorization == null || !authorization.startsWith("Bearer " + TOKEN_PREFIX)) {
+                respond(exchange, 401, "{\"msg\":\"this access token does not exist\",\"code\":-401}");
+                return;
+            }
+            String user = authorization.substring(("Bearer " + TOKEN_PREFIX).length());
+            respond(exchange, 200, "{\"id\":" + Math.abs(user.hashCode())
+                    + ",\"connected_at\":\"2024-01-01T00:00:00Z\""
+                    + ",\"properties\":{\"padding\":\"" + padding + "\"}"
+                    + ",\"kakao_account\":{\"profile_nickname_needs_agreement\":false"
+                    + ",\"profile\":{\"nickname\":\"" + user + "\""
+                    + ",\"profile_image_url\":\"https://img.loadtest.local/" + user + ".jpg\"}"
+                    + ",\"has_email\":true,\"email\":\"" + user + "@loadtest.local\"}}");
+        }
+    }
+
+    private void jwks(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (signingKey == null) {
+                respond(exchange, 404, "{}");
+                return;
+            }
+            RSAPublicKey publicKey = (RSAPublicKey) signingKey.getPublic();
+            respond(exchange, 200, "{\"keys\":[{\"kid\":\"" + KEY_ID + "\",\"kty\":\"RSA\",\"alg\":\"RS256\""
+                    + ",\"use\":\"sig\",\"n\":\"" + base64Url(unsigned(publicKey.getModulus()))
+                    + "\",\"e\":\"" + base64Url(unsigned(publicKey.getPublicExponent())) + "\"}]}");
+        }
+    }
+
+    private String idToken(String user, Set<String> scopes) {
+        long now = System.currentTimeMillis() / 1000;
+        String header = "{\"kid\":\"" + KEY_ID + "\",\"typ\":\"JWT\",\"alg\":\"RS256\"}";
+        String claims = "{\"aud\":\"" + clientId + "\",\"sub\":\"" + Math.abs(user.hashCode())
+                + "\",\"auth_time\":" + now + ",\"iss\":\"" + baseUrl() + "\""
+                + ",\"exp\":" + (now + 21599) + ",\"iat\":" + now
+                + (scopes.contains("profile_nickname") ? ",\"nickname\":\"" + user + "\"" : "")
+                + (scopes.contains("profile_image") ? ",\"picture\":\"https://img.loadtest.local/" + user + ".jpg\"" : "")
+                + (scopes.contains("account_email") ? ",\"email\":\"" + user + "@loadtest.local\"" : "")
+                + "}";
+        String signingInput = base64Url(header.getBytes(StandardCharsets.UTF_8)) + "."
+                + base64Url(claims.getBytes(StandardCharsets.UTF_8));
+        try {
+            Signature signature = Signature.getInstance("SHA256withRSA");
+            signature.initSign(signingKey.getPrivate());
+            signature.update(signingInput.getBytes(StandardCharsets.US_ASCII));
+            return signingInput + "." + base64Url(signature.sign());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static KeyPair generateSigningKey() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        return bytes[0] == 0 ? Arrays.copyOfRange(bytes, 1, bytes.length) : bytes;
+    }
+
+    private static String base64Url(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    // true 면 이미 오류 응답을 보냈다는 뜻
+    private boolean delayOrFail(HttpExchange exchange) throws IOException {
+        if (!latency.isZero()) {
+            try {
+                Thread.sleep(latency);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        if (errorRate > 0 && ThreadLocalRandom.current().nextDouble() < errorRate) {
+            respond(exchange, 503, "{\"msg\":\"stub failure\",\"code\":-9798}");
+            return true;
+        }
+        return false;
+    }
+
+    private static String readBody(HttpExchange exchange) throws IOException {
+        try (InputStream body = exchange.getRequestBody()) {
+            return new String(body.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static String formValue(String form, String name) {
+        for (String pair : form.split("&")) {
+            int separator = pair.indexOf('=');
+            if (separator > 0 && pair.substring(0, separator).equals(name)) {
+                return URLDecoder.decode(pair.substring(separator + 1), StandardCharsets.UTF_8);
+            }
+        }
+        return null;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json;charset=UTF-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+        executor.shutdownNow();
+    }
+}
@@ -0,0 +1,209 @@
+package org.ject.recreation.loadtest;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.ject.recreation.CoreApiApplication;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * H2 파일 DB 에 사용자 수백만 건을 넣고 /admin/users/export 로 전부 내려받는다.
+ * exportFootprint 태스크가 힙을 작게 고정해서 실행하므로, 내보내기가 결과를 힙에 모으면 OOM 으로 실패한다.
+ * 받은 행 수가 넣은 행 수와 다르거나 힙 최대 사용량이 기준을 넘어도 exit code 1 로 끝난다.
+ */
+public class UserExportFootprint {
+
+    private static final String ADMIN_TOKEN = "loadtest";
+
+    private static final long SEED_CHUNK = 100_000;
+
+    private static final String SEED_SQL = "INSERT INTO `user` "
+            + "(email, platform, profile_image_url, nickname, created_at, updated_at) "
+            + "SELECT CONCAT('user', LPAD(CAST(X AS VARCHAR), 10, '0'), '@loadtest.local'), 'kakao', "
+            + "CONCAT('https://img.loadtest.local/', X, '.jpg'), CONCAT('user', X), LOCALTIMESTAMP, LOCALTIMESTAMP "
+            + "FROM SYSTEM_RANGE(?, ?)";
+
+    public static void main(String[] args) throws Exception {
+        long rows = Long.getLong("export.rows", 2_000_000);
+        List<String> formats = List.of(System.getProperty("export.formats", "csv,json").split(","));
+        long maxHeapUsed = Long.getLong("export.max-heap-used-mb", 0) * 1024 * 1024;
+        Path dbDir = Path.of(System.getProperty("export.db-dir", "build/export-footprint"));
+        Path reportPath = Path.of(System.getProperty("export.report", "build/reports/loadtest/export.json"));
+
+        // 이전 실행의 DB 가 남아 있으면 행 수가 맞지 않으므로 매번 새로 만듦
+        FileSystemUtils.deleteRecursively(dbDir);
+        Files.createDirectories(dbDir);
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        List<String> violations = new ArrayList<>();
+        try (ConfigurableApplicationContext context = startApplication(dbDir)) {
+            long seedStart = System.nanoTime();
+            seed(context.getBean(JdbcTemplate.class), rows);
+            System.out.printf("Seeded %d rows in %.1fs%n", rows, (System.nanoTime() - seedStart) / 1e9);
+
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+            report.put("rows", rows);
+            report.put("maxHeapMb", Runtime.getRuntime().maxMemory() / 1024 / 1024);
+            for (String format : formats) {
+                Map<String, Object> result = export(httpClient, port, format.trim());
+                report.put(format.trim(), result);
+                if ((long) result.get("rows") != rows) {
+                    violations.add(format + ": exported " + result.get("rows") + " rows, expected " + rows);
+                }
+                long peakHeapUsed = (long) result.get("peakHeapUsedMb") * 1024 * 1024;
+                if (maxHeapUsed > 0 && peakHeapUsed > maxHeapUsed) {
+                    violations.add(format + ": peak heap " + result.get("peakHeapUsedMb") + "MB > "
+                            + maxHeapUsed / 1024 / 1024 + "MB");
+                }
+            }
+        }
+
+        String json = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValueAsString(report);
+        System.out.println(json);
+        Files.createDirectories(reportPath.toAbsolutePath().getParent());
+        Files.writeString(reportPath, json);
+        violations.forEach(violation -> System.out.println("FAILED: " + violation));
+        System.exit(violations.isEmpty() ? 0 : 1);
+    }
+
+    private static ConfigurableApplicationContext startApplication(Path dbDir) {
+        return new SpringApplicationBuilder(CoreApiApplication.class).run(
+                "--server.port=0",
+                "--spring.profiles.active=local",
+                // 메모리 DB 는 행 자체가 힙에 올라가므로 파일 DB 로 두고 페이지 캐시도 작게 제한
+                "--storage.datasource.core.jdbc-url=jdbc:h2:file:" + dbDir.toAbsolutePath().resolve("core")
+                        + ";MODE=MySQL;CACHE_SIZE=8192;LAZY_QUERY_EXECUTION=TRUE",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.h2.console.enabled=false",
+                "--logging.config=classpath:logback/logback-prod.xml",
+                "--admin.api-token=" + ADMIN_TOKEN,
+                "--kakao.client-id=loadtest",
+                "--kakao.redirect-uri=http://127.0.0.1/login/kakao/callback");
+    }
+
+    private static void seed(JdbcTemplate jdbcTemplate, long rows) {
+        // 한 트랜잭션이 너무 커지지 않도록 나눠서 넣음
+        for (long from = 1; from <= rows; from += SEED_CHUNK) {
+            jdbcTemplate.update(SEED_SQL, from, Math.min(rows, from + SEED_CHUNK - 1));
+        }
+    }
+
+    private static Map<String, Object> export(HttpClient httpClient, int port, String format)
+            throws IOException, InterruptedException {
+        System.gc();
+        List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                .filter(pool -> pool.getType() == MemoryType.HEAP)
+                .toList();
+        heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+        HttpRequest request = HttpRequest.newBuilder(
+                        URI.create("http://127.0.0.1:" + port + "/admin/users/export?format=" + format))
+                .header("X-Admin-Token", ADMIN_TOKEN)
+                .GET()
+                .build();
+        long start = System.nanoTime();
+        HttpResponse<InputStream> response = httpClient.send(request, HttpResponse.BodyHandlers.ofInputStream());
+        if (response.statusCode() != 200) {
+            throw new IllegalStateException("Export " + format + " returned " + response.statusCode());
+        }
+        long[] counted;
+        try (InputStream body = response.body()) {
+            counted = "json".equals(format) ? countJsonRows(body) : countCsvRows(body);
+        }
+        double seconds = (System.nanoTime() - start) / 1e9;
+        // 풀별 최대치의 합이라 실제 동시 최대치보다 조금 크게 나올 수 있음 (보수적인 값)
+        long peakHeapUsed = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("rows", counted[0]);
+        result.put("bytes", counted[1]);
+        result.put("seconds", Math.round(seconds * 100) / 100.0);
+        result.put("rowsPerSecond", Math.round(counted[0] / seconds));
+        result.put("peakHeapUsedMb", peakHeapUsed / 1024 / 1024);
+        return result;
+    }
+
+    // 첫 줄은 헤더
+    private static long[] countCsvRows(InputStream body) throws IOException {
+        byte[] buffer = new byte[64 * 1024];
+        long lines = 0;
+        long bytes = 0;
+        int read;
+        while ((read = body.read(buffer)) > 0) {
+            bytes += read;
+            for (int i = 0; i < read; i++) {
+                if (buffer[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+        return new long[]{Math.max(0, lines - 1), bytes};
+    }
+
+    private static long[] countJsonRows(InputStream body) throws IOException {
+        CountingInputStream counting = new CountingInputStream(body);
+        long rows = 0;
+        try (JsonParser parser = new JsonFactory().createParser(counting)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IllegalStateException("Export json is not an array");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                parser.skipChildren();
+                rows++;
+            }
+        }
+        return new long[]{rows, counting.count};
+    }
+
+    private static final class CountingInputStream extends FilterInputStream {
+
+        private long count;
+
+        private CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b >= 0) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package org.ject.recreation.storage.db.core;
+
+import io.r2dbc.pool.ConnectionPool;
+import io.r2dbc.pool.ConnectionPoolConfiguration;
+import io.r2dbc.spi.ConnectionFactories;
+import io.r2dbc.spi.ConnectionFactory;
+import io.r2dbc.spi.ConnectionFactoryOptions;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Duration;
+
+/**
+ * storage.mode=r2dbc 일 때 storage.r2dbc.core 설정으로 R2DBC 커넥션 풀을 만든다.
+ * R2dbcAutoConfiguration 은 꺼 두었으므로(db-core.yml) 이 풀이 유일한 ConnectionFactory 이고,
+ * 풀 메트릭은 r2dbc.pool.*{name=coreConnectionFactory} 로 노출된다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.mode", havingValue = "r2dbc")
+public class CoreConnectionFactoryConfig {
+
+    // ConnectionPool.close() 는 Mono 를 돌려주기만 하므로 종료 시 dispose() 를 호출하도록 지정
+    @Bean(destroyMethod = "dispose")
+    public ConnectionPool coreConnectionFactory(@Value("${storage.r2dbc.core.url}") String url,
+                                                @Value("${storage.r2dbc.core.username}") String username,
+                                                @Value("${storage.r2dbc.core.password}") String password,
+                                                @Value("${storage.r2dbc.core.pool-name}") String poolName,
+                                                @Value("${storage.r2dbc.core.initial-size}") int initialSize,
+                                                @Value("${storage.r2dbc.core.max-size}") int maxSize,
+                                                @Value("${storage.r2dbc.core.max-acquire-time}") Duration maxAcquireTime,
+                                                @Value("${storage.r2dbc.core.max-idle-time}") Duration maxIdleTime) {
+        ConnectionFactoryOptions.Builder options = ConnectionFactoryOptions.parse(url).mutate();
+        if (!username.isEmpty()) {
+            options.option(ConnectionFactoryOptions.USER, username);
+        }
+        if (!password.isEmpty()) {
+            options.option(ConnectionFactoryOptions.PASSWORD, password);
+        }
+        ConnectionFactory connectionFactory = ConnectionFactories.get(options.build());
+        return new ConnectionPool(ConnectionPoolConfiguration.builder(connectionFactory)
+                .name(poolName)
+                .initialSize(initialSize)
+                .maxSize(maxSize)
+                .maxAcquireTime(maxAcquireTime)
+                .maxIdleTime(maxIdleTime)
+                .build());
+    }
+
+    @Bean
+    public DatabaseClient coreDatabaseClient(ConnectionFactory coreConnectionFactory) {
+        return DatabaseClient.create(coreConnectionFactory);
+    }
+}
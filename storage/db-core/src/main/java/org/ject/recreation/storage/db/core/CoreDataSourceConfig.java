@@ -0,0 +1,77 @@
+package org.ject.recreation.storage.db.core;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.Metrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * storage.datasource.core(writer) 와 storage.datasource.core-replicas(reader) 를 Hikari 풀로 만든다.
+ * LazyConnectionDataSourceProxy 가 실제 커넥션을 첫 쿼리 시점까지 미루기 때문에
+ * readOnly 트랜잭션은 writer 풀을 건드리지 않고 replica 풀에서만 커넥션을 가져간다.
+ * 풀별 메트릭은 hikaricp.connections.*{pool=...} 로 노출된다.
+ * storage.query-accounting.enabled 이면 QueryAccountingDataSource 로 한 번 더 감싸서 statement 수와 시간을 기록한다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class CoreDataSourceConfig implements DisposableBean {
+
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    @Bean
+    @ConfigurationProperties(prefix = "storage.datasource.core")
+    public HikariConfig coreHikariConfig() {
+        return new HikariConfig();
+    }
+
+    @Bean
+    public DataSource coreDataSource(HikariConfig coreHikariConfig, Environment environment,
+                                     QueryAccounting queryAccounting) {
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(createPool(coreHikariConfig));
+
+        List<HikariConfig> replicaConfigs = Binder.get(environment)
+                .bind("storage.datasource.core-replicas", Bindable.listOf(HikariConfig.class))
+                .orElse(List.of());
+        if (!replicaConfigs.isEmpty()) {
+            List<DataSource> replicas = new ArrayList<>();
+            for (HikariConfig replicaConfig : replicaConfigs) {
+                replicaConfig.setReadOnly(true);
+                replicas.add(createPool(replicaConfig));
+            }
+            dataSource.setReadOnlyDataSource(new ReplicaRoutingDataSource(replicas));
+        }
+        // writer/replica 어느 쪽으로 가든 JPA, JdbcTemplate 의 모든 statement 가 기록되도록 가장 바깥에서 감쌈
+        return queryAccounting.isEnabled() ? new QueryAccountingDataSource(dataSource, queryAccounting) : dataSource;
+    }
+
+    private HikariDataSource createPool(HikariConfig config) {
+        config.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(Metrics.globalRegistry));
+        HikariDataSource pool = new HikariDataSource(config);
+        pools.add(pool);
+        return pool;
+    }
+
+    // readiness 확인용. 커넥션을 빌리지 않고 HikariPoolMXBean 수치만 읽도록 풀 자체를 넘김
+    public List<HikariDataSource> getPools() {
+        return List.copyOf(pools);
+    }
+
+    @Override
+    public void destroy() {
+        pools.forEach(HikariDataSource::close);
+    }
+}
@@ -0,0 +1,201 @@
+package org.ject.recreation.storage.db.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * QueryAccountingDataSource 가 넘겨주는 statement 실행을 기록한다.
+ * - db.query{fingerprint}: fingerprint 별 왕복 시간 (히스토그램 버킷은 monitoring.yml 에서 켬)
+ * - db.request.statements / db.request.time{scope}: 요청(scope) 하나가 쓴 statement 수와 DB 시간
+ * - db.n-plus-one{scope}: 한 요청에서 같은 fingerprint 가 n-plus-one-threshold 번 이상 실행된 횟수
+ * 느린 statement 와 N+1 은 fingerprint, 가려진 bind 값과 함께 WARN 으로 남기되 같은 항목은 warn-interval 에 한 번만 찍는다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class QueryAccounting {
+
+    private static final String OTHER_FINGERPRINT = "other";
+
+    private static final int MAX_TAG_LENGTH = 200;
+
+    private final boolean enabled;
+
+    private final long slowThresholdNanos;
+
+    private final int nPlusOneThreshold;
+
+    private final int maxFingerprints;
+
+    private final long warnIntervalNanos;
+
+    // 같은 SQL 문자열은 매번 다시 정규화하지 않음
+    private final Cache<String, String> fingerprints;
+
+    private final Map<String, Timer> queryTimers = new ConcurrentHashMap<>();
+
+    private final Map<String, ScopeMeters> scopeMeters = new ConcurrentHashMap<>();
+
+    private final Map<String, Long> lastWarnedAt = new ConcurrentHashMap<>();
+
+    private final Counter slowQueries;
+
+    public QueryAccounting(@Value("${storage.query-accounting.enabled}") boolean enabled,
+                           @Value("${storage.query-accounting.slow-threshold}") Duration slowThreshold,
+                           @Value("${storage.query-accounting.n-plus-one-threshold}") int nPlusOneThreshold,
+                           @Value("${storage.query-accounting.max-fingerprints}") int maxFingerprints,
+                           @Value("${storage.query-accounting.warn-interval}") Duration warnInterval) {
+        this.enabled = enabled;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.nPlusOneThreshold = nPlusOneThreshold;
+        this.maxFingerprints = maxFingerprints;
+        this.warnIntervalNanos = warnInterval.toNanos();
+        this.fingerprints = Caffeine.newBuilder().maximumSize(4096).build();
+        this.slowQueries = Counter.builder("db.query.slow").register(Metrics.globalRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * 요청 하나를 scope 로 연다. 닫힐 때 요청별 메트릭을 남기고 N+1 을 확인한다.
+     */
+    public QueryScope openScope(String name) {
+        return QueryScope.open(name, this::onScopeClosed);
+    }
+
+    // slow 로그를 끄면 bind 값을 모을 필요도 없음
+    boolean capturesBinds() {
+        return slowThresholdNanos > 0;
+    }
+
+    void onExecute(String sql, long nanos, Object[] binds) {
+        String fingerprint = fingerprints.get(sql == null ? "" : sql, SqlFingerprint::of);
+        queryTimer(fingerprint).record(nanos, TimeUnit.NANOSECONDS);
+
+        QueryScope scope = QueryScope.current();
+        if (scope != null) {
+            scope.record(fingerprint, nanos);
+        }
+        if (slowThresholdNanos > 0 && nanos >= slowThresholdNanos) {
+            slowQueries.increment();
+            if (shouldWarn("slow:" + fingerprint)) {
+                log.warn("Slow query {}ms in {}: {} binds={}", TimeUnit.NANOSECONDS.toMillis(nanos),
+                        scope == null ? "-" : scope.getName(), fingerprint, redact(binds));
+            }
+        }
+    }
+
+    private void onScopeClosed(QueryScope scope) {
+        ScopeMeters meters = scopeMeters.computeIfAbsent(scope.getName(), ScopeMeters::new);
+        meters.statements.record(scope.getStatementCount());
+        meters.time.record(scope.getElapsedNanos(), TimeUnit.NANOSECONDS);
+        if (nPlusOneThreshold <= 0) {
+            return;
+        }
+        scope.getExecutions().forEach((fingerprint, count) -> {
+            if (count >= nPlusOneThreshold) {
+                meters.nPlusOne.increment();
+                if (shouldWarn("n+1:" + scope.getName() + ":" + fingerprint)) {
+                    log.warn("Possible N+1 in {}: {} executions of {} ({} statements in request)",
+                            scope.getName(), count, fingerprint, scope.getStatementCount());
+                }
+            }
+        });
+    }
+
+    // fingerprint 종류가 max-fingerprints 를 넘으면 나머지는 other 로 묶어서 태그 수를 제한함
+    private Timer queryTimer(String fingerprint) {
+        Timer timer = queryTimers.get(fingerprint);
+        if (timer != null) {
+            return timer;
+        }
+        String tag = queryTimers.size() < maxFingerprints ? fingerprint : OTHER_FINGERPRINT;
+        Timer created = Timer.builder("db.query")
+                .tag("fingerprint", toTagValue(tag))
+                .register(Metrics.globalRegistry);
+        if (tag.equals(OTHER_FINGERPRINT)) {
+            return created;
+        }
+        Timer existing = queryTimers.putIfAbsent(fingerprint, created);
+        return existing != null ? existing : created;
+    }
+
+    private boolean shouldWarn(String key) {
+        long now = System.nanoTime();
+        if (lastWarnedAt.size() > maxFingerprints * 4) {
+            lastWarnedAt.clear();
+        }
+        Long last = lastWarnedAt.get(key);
+        if (last != null && now - last < warnIntervalNanos) {
+            return false;
+        }
+        // 동시에 들어온 경우 한쪽만 찍음
+        return last == null ? lastWarnedAt.putIfAbsent(key, now) == null : lastWarnedAt.replace(key, last, now);
+    }
+
+    // 값 자체는 남기지 않고 타입과 길이만 남김
+    static String redact(Object[] binds) {
+        if (binds == null) {
+            return "[]";
+        }
+        StringJoiner joiner = new StringJoiner(", ", "[", "]");
+        for (Object bind : binds) {
+            if (bind == null) {
+                joiner.add("null");
+            } else if (bind instanceof CharSequence text) {
+                joiner.add("String(" + text.length() + ")");
+            } else if (bind instanceof byte[] bytes) {
+                joiner.add("byte[" + bytes.length + "]");
+            } else {
+                joiner.add(bind.getClass().getSimpleName());
+            }
+        }
+        return joiner.toString();
+    }
+
+    // 긴 fingerprint 는 잘라내고, 잘린 것끼리 겹치지 않도록 해시를 붙임
+    private static String toTagValue(String fingerprint) {
+        if (fingerprint.length() <= MAX_TAG_LENGTH) {
+            return fingerprint;
+        }
+        return fingerprint.substring(0, MAX_TAG_LENGTH) + "...#" + HexFormat.of().toHexDigits(fingerprint.hashCode());
+    }
+
+    private static final class ScopeMeters {
+
+        private final DistributionSummary statements;
+
+        private final Timer time;
+
+        private final Counter nPlusOne;
+
+        private ScopeMeters(String scope) {
+            this.statements = DistributionSummary.builder("db.request.statements")
+                    .tag("scope", scope)
+                    .register(Metrics.globalRegistry);
+            this.time = Timer.builder("db.request.time")
+                    .tag("scope", scope)
+                    .register(Metrics.globalRegistry);
+            this.nPlusOne = Counter.builder("db.n-plus-one")
+                    .tag("scope", scope)
+                    .register(Metrics.globalRegistry);
+        }
+    }
+}
@@ -0,0 +1,176 @@
+package org.ject.recreation.storage.db.core;
+
+import org.springframework.jdbc.datasource.ConnectionProxy;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Set;
+
+/**
+ * Connection 과 Statement 를 JDK 동적 프록시로 감싸서 execute* 호출마다 SQL 과 왕복 시간을 QueryAccounting 에 넘긴다.
+ * executeBatch 는 묶음 전체가 한 번으로 세어지고, executeQuery 는 첫 fetch 까지의 시간만 잰다.
+ */
+class QueryAccountingDataSource extends DelegatingDataSource {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final QueryAccounting queryAccounting;
+
+    QueryAccountingDataSource(DataSource target, QueryAccounting queryAccounting) {
+        super(target);
+        this.queryAccounting = queryAccounting;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return wrap(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    private Connection wrap(Connection target) {
+        return (Connection) Proxy.newProxyInstance(QueryAccountingDataSource.class.getClassLoader(),
+                new Class<?>[]{ConnectionProxy.class}, new ConnectionHandler(target));
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static Object unwrap(Object proxy, Object target, Method method, Object[] args) throws Throwable {
+        Class<?> type = (Class<?>) args[0];
+        if (method.getName().equals("isWrapperFor")) {
+            return type.isInstance(proxy) || (boolean) invoke(target, method, args);
+        }
+        return type.isInstance(proxy) ? proxy : invoke(target, method, args);
+    }
+
+    private final class ConnectionHandler implements InvocationHandler {
+
+        private final Connection target;
+
+        private ConnectionHandler(Connection target) {
+            this.target = target;
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "QueryAccounting proxy for " + target;
+                case "getTargetConnection":
+                    return target;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, target, method, args);
+                case "createStatement":
+                    return wrapStatement((Connection) proxy, (Statement) QueryAccountingDataSource.invoke(target, method, args),
+                            Statement.class, null);
+                case "prepareStatement":
+                    return wrapStatement((Connection) proxy, (Statement) QueryAccountingDataSource.invoke(target, method, args),
+                            PreparedStatement.class, (String) args[0]);
+                case "prepareCall":
+                    return wrapStatement((Connection) proxy, (Statement) QueryAccountingDataSource.invoke(target, method, args),
+                            CallableStatement.class, (String) args[0]);
+                default:
+                    return QueryAccountingDataSource.invoke(target, method, args);
+            }
+        }
+
+        private Statement wrapStatement(Connection connection, Statement statement, Class<?> type, String sql) {
+            return (Statement) Proxy.newProxyInstance(QueryAccountingDataSource.class.getClassLoader(),
+                    new Class<?>[]{type}, new StatementHandler(connection, statement, sql));
+        }
+    }
+
+    private final class StatementHandler implements InvocationHandler {
+
+        private final Connection connection;
+
+        private final Statement target;
+
+        private final boolean capturesBinds;
+
+        // PreparedStatement 는 생성 시 SQL, Statement 는 execute(sql) 또는 첫 addBatch(sql) 의 SQL
+        private String sql;
+
+        private Object[] binds;
+
+        private StatementHandler(Connection connection, Statement target, String sql) {
+            this.connection = connection;
+            this.target = target;
+            this.sql = sql;
+            this.capturesBinds = sql != null && queryAccounting.capturesBinds();
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            String name = method.getName();
+            if (EXECUTE_METHODS.contains(name)) {
+                String executed = args != null && args.length > 0 && args[0] instanceof String text ? text : sql;
+                long start = System.nanoTime();
+                try {
+                    return QueryAccountingDataSource.invoke(target, method, args);
+                } finally {
+                    queryAccounting.onExecute(executed, System.nanoTime() - start, binds);
+                }
+            }
+            if (capturesBinds && name.startsWith("set") && args != null && args.length >= 2
+                    && args[0] instanceof Integer index) {
+                bind(index, name.equals("setNull") ? null : args[1]);
+            } else if (name.equals("clearParameters")) {
+                binds = null;
+            } else if (name.equals("addBatch") && args != null && args.length == 1 && sql == null) {
+                sql = (String) args[0];
+            }
+            switch (name) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "getConnection":
+                    return connection;
+                case "unwrap":
+                case "isWrapperFor":
+                    return unwrap(proxy, target, method, args);
+                default:
+                    return QueryAccountingDataSource.invoke(target, method, args);
+            }
+        }
+
+        private void bind(int index, Object value) {
+            if (index < 1) {
+                return;
+            }
+            // 로그에 빈 자리가 찍히지 않도록 배열 길이를 바인딩 개수에 맞춤
+            if (binds == null) {
+                binds = new Object[index];
+            } else if (binds.length < index) {
+                binds = Arrays.copyOf(binds, index);
+            }
+            binds[index - 1] = value;
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package org.ject.recreation.storage.db.core;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * 현재 스레드에서 실행된 SQL statement 를 모으는 구간. 요청 하나(QueryAccountingInterceptor)나
+ * QueryBudget 으로 감싼 코드 블록이 하나의 scope 가 된다.
+ * scope 는 중첩될 수 있고, 닫힐 때 모은 수치를 바깥 scope 에 더한다. 연 스레드에서 닫아야 한다.
+ */
+public final class QueryScope implements AutoCloseable {
+
+    private static final ThreadLocal<QueryScope> CURRENT = new ThreadLocal<>();
+
+    private final String name;
+
+    private final QueryScope parent;
+
+    private final Consumer<QueryScope> onClose;
+
+    // fingerprint -> 실행 횟수. 한 스레드에서만 쓰므로 동기화하지 않음
+    private final Map<String, Integer> executions = new HashMap<>();
+
+    private int statementCount;
+
+    private long elapsedNanos;
+
+    private boolean closed;
+
+    private QueryScope(String name, QueryScope parent, Consumer<QueryScope> onClose) {
+        this.name = name;
+        this.parent = parent;
+        this.onClose = onClose;
+    }
+
+    public static QueryScope open(String name) {
+        return open(name, null);
+    }
+
+    static QueryScope open(String name, Consumer<QueryScope> onClose) {
+        QueryScope scope = new QueryScope(name, CURRENT.get(), onClose);
+        CURRENT.set(scope);
+        return scope;
+    }
+
+    static QueryScope current() {
+        return CURRENT.get();
+    }
+
+    void record(String fingerprint, long nanos) {
+        statementCount++;
+        elapsedNanos += nanos;
+        executions.merge(fingerprint, 1, Integer::sum);
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (CURRENT.get() == this) {
+            if (parent == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(parent);
+            }
+        }
+        if (parent != null && !parent.closed) {
+            parent.statementCount += statementCount;
+            parent.elapsedNanos += elapsedNanos;
+            executions.forEach((fingerprint, count) -> parent.executions.merge(fingerprint, count, Integer::sum));
+        }
+        if (onClose != null) {
+            onClose.accept(this);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getStatementCount() {
+        return statementCount;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    // 많이 실행된 fingerprint 부터
+    public Map<String, Integer> getExecutions() {
+        Map<String, Integer> sorted = new LinkedHashMap<>();
+        executions.entrySet().stream()
+                .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+                .forEach(entry -> sorted.put(entry.getKey(), entry.getValue()));
+        return sorted;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + statementCount + " statements, " + elapsedNanos / 1_000_000.0 + "ms) " + getExecutions();
+    }
+}
@@ -0,0 +1,41 @@
+package org.ject.recreation.storage.db.core;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import reactor.core.publisher.Mono;
+
+/**
+ * storage.mode=r2dbc 에서 User 를 저장한다. UserRepository.upsert 와 같은 MySQL 문법이라
+ * H2(MySQL 모드)와 MySQL 에서 그대로 동작한다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.mode", havingValue = "r2dbc")
+public class ReactiveUserRepository {
+
+    private static final String UPSERT_SQL = "INSERT INTO `user` "
+            + "(email, platform, profile_image_url, nickname, created_at, updated_at) "
+            + "VALUES (:email, :platform, :profileImageUrl, :nickname, :createdAt, :updatedAt) "
+            + "ON DUPLICATE KEY UPDATE profile_image_url = VALUES(profile_image_url), "
+            + "nickname = VALUES(nickname), updated_at = VALUES(updated_at)";
+
+    private final DatabaseClient databaseClient;
+
+    public ReactiveUserRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<Long> upsert(User user) {
+        DatabaseClient.GenericExecuteSpec spec = databaseClient.sql(UPSERT_SQL)
+                .bind("email", user.getEmail())
+                .bind("platform", user.getPlatform())
+                .bind("nickname", user.getNickname())
+                .bind("createdAt", user.getCreatedAt())
+                .bind("updatedAt", user.getUpdatedAt());
+        // null 은 타입을 알려줘야 바인딩됨
+        spec = user.getProfileImageUrl() == null
+                ? spec.bindNull("profileImageUrl", String.class)
+                : spec.bind("profileImageUrl", user.getProfileImageUrl());
+        return spec.fetch().rowsUpdated();
+    }
+}
@@ -0,0 +1,93 @@
+package org.ject.recreation.storage.db.core;
+
+import java.util.regex.Pattern;
+
+/**
+ * SQL 을 fingerprint 로 바꾼다. 문자열/숫자 리터럴은 ? 로, 주석은 지우고 공백은 하나로 줄이며,
+ * IN (?, ?, ...) 과 여러 행 VALUES 는 한 묶음으로 접는다. batch fetch 처럼 바인딩 개수만 다른 쿼리가 같은 값이 되고,
+ * 리터럴이 들어간 Statement SQL 도 값이 빠진 채로 로그/메트릭에 남는다.
+ */
+final class SqlFingerprint {
+
+    private static final Pattern PARAMETER_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)+\\s*\\)");
+
+    private static final Pattern REPEATED_ROWS = Pattern.compile("\\(\\?\\)(?:\\s*,\\s*\\(\\?\\))+");
+
+    private SqlFingerprint() {
+    }
+
+    static String of(String sql) {
+        if (sql == null) {
+            return "<unknown>";
+        }
+        StringBuilder out = new StringBuilder(sql.length());
+        int length = sql.length();
+        int i = 0;
+        while (i < length) {
+            char c = sql.charAt(i);
+            if (c == '\'') {
+                i = skipQuoted(sql, i);
+                out.append('?');
+            } else if (c == '-' && i + 1 < length && sql.charAt(i + 1) == '-') {
+                while (i < length && sql.charAt(i) != '\n') {
+                    i++;
+                }
+            } else if (c == '/' && i + 1 < length && sql.charAt(i + 1) == '*') {
+                int end = sql.indexOf("*/", i + 2);
+                i = end < 0 ? length : end + 2;
+            } else if (Character.isWhitespace(c)) {
+                while (i < length && Character.isWhitespace(sql.charAt(i))) {
+                    i++;
+                }
+                if (!out.isEmpty() && out.charAt(out.length() - 1) != ' ') {
+                    out.append(' ');
+                }
+            } else if (Character.isDigit(c) && !isIdentifierPart(out)) {
+                // 123, 1.5, 0x1F, 1e10 는 모두 ? 하나
+                while (i < length && (Character.isLetterOrDigit(sql.charAt(i)) || sql.charAt(i) == '.')) {
+                    i++;
+                }
+                out.append('?');
+            } else if (c == '`' || c == '"') {
+                // 식별자는 그대로 둠
+                int end = sql.indexOf(c, i + 1);
+                end = end < 0 ? length : end + 1;
+                out.append(sql, i, end);
+                i = end;
+            } else {
+                out.append(c);
+                i++;
+            }
+        }
+        String normalized = PARAMETER_LIST.matcher(out.toString().trim()).replaceAll("(?)");
+        return REPEATED_ROWS.matcher(normalized).replaceAll("(?)");
+    }
+
+    // '' 와 \' 이스케이프를 건너뛰고 닫는 따옴표 다음 위치를 돌려줌
+    private static int skipQuoted(String sql, int start) {
+        int i = start + 1;
+        while (i < sql.length()) {
+            char c = sql.charAt(i);
+            if (c == '\\') {
+                i += 2;
+            } else if (c == '\'') {
+                if (i + 1 < sql.length() && sql.charAt(i + 1) == '\'') {
+                    i += 2;
+                } else {
+                    return i + 1;
+                }
+            } else {
+                i++;
+            }
+        }
+        return sql.length();
+    }
+
+    private static boolean isIdentifierPart(StringBuilder out) {
+        if (out.isEmpty()) {
+            return false;
+        }
+        char previous = out.charAt(out.length() - 1);
+        return Character.isLetterOrDigit(previous) || previous == '_' || previous == '$';
+    }
+}
@@ -0,0 +1,18 @@
+package org.ject.recreation.storage.db.core;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Long @Id 에 붙이면 insert 전에 TsidGenerator 로 ID 를 채운다.
+ * IDENTITY 와 달리 insert 결과를 기다릴 필요가 없어서 hibernate.jdbc.batch_size 로 insert 가 묶인다.
+ */
+@IdGeneratorType(TsidIdentifierGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface Tsid {
+}
@@ -0,0 +1,23 @@
+package org.ject.recreation.storage.db.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * @Tsid ID 의 node 값을 storage.tsid.node-id 로 정한다.
+ * 두 인스턴스가 같은 node 를 쓰면 같은 ms 에 같은 ID 를 만들 수 있으므로 추정값 없이 반드시 설정해야 하고
+ * (local 프로필만 0), 없으면 기동을 멈춘다.
+ */
+@Configuration
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class TsidConfig {
+
+    public TsidConfig(@Value("${storage.tsid.node-id:}") String nodeId) {
+        if (nodeId.isBlank()) {
+            throw new IllegalStateException("storage.tsid.node-id (TSID_NODE_ID) must be set to a value unique per instance (0-"
+                    + TsidGenerator.MAX_NODE_ID + ")");
+        }
+        TsidGenerator.configureDefault(Integer.parseInt(nodeId.trim()));
+    }
+}
@@ -0,0 +1,74 @@
+package org.ject.recreation.storage.db.core;
+
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간 순으로 정렬되는 64비트 ID 생성기.
+ * [41비트 epoch 이후 ms][10비트 node][12비트 sequence] 구조이며 락 없이 CAS 로만 증가한다.
+ * 같은 ms 안에서 sequence 를 다 쓰면 다음 ms 를 미리 당겨 쓰고, 시계가 뒤로 가도 마지막 값 이후로만 발급한다.
+ */
+public final class TsidGenerator {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+
+    static final int NODE_BITS = 10;
+
+    static final int SEQUENCE_BITS = 12;
+
+    static final int MAX_NODE_ID = (1 << NODE_BITS) - 1;
+
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+
+    // TsidConfig 가 기동 시 storage.tsid.node-id 로 만듦
+    private static volatile TsidGenerator defaultGenerator;
+
+    private final long node;
+
+    // (epoch 이후 ms << SEQUENCE_BITS) | sequence
+    private final AtomicLong lastState = new AtomicLong();
+
+    public TsidGenerator(int nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("nodeId must be between 0 and " + MAX_NODE_ID + ": " + nodeId);
+        }
+        this.node = (long) nodeId << SEQUENCE_BITS;
+    }
+
+    public static TsidGenerator getDefault() {
+        TsidGenerator generator = defaultGenerator;
+        if (generator == null) {
+            throw new IllegalStateException("TSID node id is not configured (storage.tsid.node-id)");
+        }
+        return generator;
+    }
+
+    // 같은 JVM 에서 컨텍스트를 다시 띄우는 경우(테스트 등) 같은 값이면 그대로 둠
+    static synchronized void configureDefault(int nodeId) {
+        TsidGenerator current = defaultGenerator;
+        if (current != null) {
+            if (current.node != (long) nodeId << SEQUENCE_BITS) {
+                throw new IllegalStateException("TSID node id is already configured as "
+                        + (current.node >>> SEQUENCE_BITS) + ", cannot change to " + nodeId);
+            }
+            return;
+        }
+        defaultGenerator = new TsidGenerator(nodeId);
+    }
+
+    public long next() {
+        long candidate = (System.currentTimeMillis() - EPOCH_MILLIS) << SEQUENCE_BITS;
+        long last;
+        long next;
+        do {
+            last = lastState.get();
+            next = Math.max(candidate, last + 1);
+        } while (!lastState.compareAndSet(last, next));
+        long millis = next >>> SEQUENCE_BITS;
+        return (millis << (NODE_BITS + SEQUENCE_BITS)) | node | (next & SEQUENCE_MASK);
+    }
+
+    public static Instant timestampOf(long id) {
+        return Instant.ofEpochMilli((id >>> (NODE_BITS + SEQUENCE_BITS)) + EPOCH_MILLIS);
+    }
+}
@@ -0,0 +1,61 @@
+package org.ject.recreation.storage.db.core;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Optional;
+
+/**
+ * email 로 User 를 조회하는 프로세스 내 캐시.
+ * 저장은 DB 에 먼저 쓰고 캐시에 반영(write-through)하며, 다른 노드의 변경은 TTL 이 지나면 반영된다.
+ * hit / miss / eviction 수치는 cache.* 메트릭(cache=user)으로 노출된다.
+ */
+@Component
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class UserNearCache {
+
+    private final UserRepository userRepository;
+
+    private final Cache<String, User> cache;
+
+    public UserNearCache(UserRepository userRepository,
+                         @Value("${storage.user-cache.maximum-size}") long maximumSize,
+                         @Value("${storage.user-cache.expire-after-write}") Duration expireAfterWrite) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(expireAfterWrite)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(Metrics.globalRegistry, cache, "user");
+    }
+
+    public Optional<User> findById(String email) {
+        // 없는 사용자는 캐시하지 않음 (가입 직후 조회가 막히지 않도록)
+        return Optional.ofNullable(cache.get(email, key -> userRepository.findById(key).orElse(null)));
+    }
+
+    public Optional<User> getIfPresent(String email) {
+        return Optional.ofNullable(cache.getIfPresent(email));
+    }
+
+    public void put(User user) {
+        cache.put(user.getEmail(), user);
+    }
+
+    public User save(User user) {
+        User saved = userRepository.save(user);
+        cache.put(saved.getEmail(), saved);
+        return saved;
+    }
+
+    public void evict(String email) {
+        cache.invalidate(email);
+    }
+}
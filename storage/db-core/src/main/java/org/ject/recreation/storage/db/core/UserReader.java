@@ -0,0 +1,91 @@
+package org.ject.recreation.storage.db.core;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * 관리용 사용자 목록 조회와 내보내기. 영속성 컨텍스트를 거치지 않고 JDBC 로 바로 읽는다.
+ * 목록은 email 순 keyset 페이지(offset 없음)이고, 내보내기는 forward-only 커서로 한 행씩 넘기므로
+ * 결과 전체가 메모리에 올라가지 않는다 (MySQL 은 스트리밍 결과셋, 그 외는 fetch-size 만큼씩).
+ */
+@Component
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class UserReader {
+
+    private static final String COLUMNS = "email, platform, profile_image_url, nickname, created_at, updated_at";
+
+    // PK(email) 순서 그대로 읽으므로 정렬 비용이 없고, 다음 페이지도 인덱스 탐색 한 번으로 시작함
+    private static final String PAGE_SQL = "SELECT " + COLUMNS + " FROM `user` WHERE email > ? ORDER BY email LIMIT ?";
+
+    private static final String EXPORT_SQL = "SELECT " + COLUMNS + " FROM `user` WHERE email > ? ORDER BY email";
+
+    // Connector/J 는 fetch size 가 이 값일 때만 결과를 한 행씩 스트리밍함
+    private static final int MYSQL_STREAMING_FETCH_SIZE = Integer.MIN_VALUE;
+
+    private static final RowMapper<User> USER_ROW_MAPPER = (rs, rowNum) -> toUser(rs);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final int exportFetchSize;
+
+    public UserReader(JdbcTemplate jdbcTemplate,
+                      @Value("${storage.user-export.fetch-size}") int exportFetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportFetchSize = exportFetchSize;
+    }
+
+    /**
+     * afterEmail 다음부터 size 건. afterEmail 이 null 이면 처음부터.
+     */
+    @Transactional(readOnly = true)
+    public List<User> findPage(String afterEmail, int size) {
+        return jdbcTemplate.query(PAGE_SQL, USER_ROW_MAPPER, lowerBound(afterEmail), size);
+    }
+
+    /**
+     * afterEmail 다음부터 끝까지 email 순으로 consumer 에 넘기고 넘긴 건수를 돌려준다.
+     * consumer 가 예외를 던지면 그 자리에서 커서를 닫고 중단한다.
+     */
+    @Transactional(readOnly = true)
+    public long export(String afterEmail, Consumer<User> consumer) {
+        long[] count = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(EXPORT_SQL,
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            // 풀 전체에 useCursorFetch 를 켜면 모든 statement 가 서버 prepare 왕복을 더 하게 되므로
+            // 내보내기만 스트리밍 결과셋으로 읽음. 스트리밍 중에는 같은 커넥션으로 다른 쿼리를 보낼 수 없다
+            statement.setFetchSize(isMySql(connection) ? MYSQL_STREAMING_FETCH_SIZE : exportFetchSize);
+            statement.setString(1, lowerBound(afterEmail));
+            return statement;
+        }, rs -> {
+            consumer.accept(toUser(rs));
+            count[0]++;
+        });
+        return count[0];
+    }
+
+    private static boolean isMySql(Connection connection) throws SQLException {
+        return "MySQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private static String lowerBound(String afterEmail) {
+        return afterEmail == null ? "" : afterEmail;
+    }
+
+    private static User toUser(ResultSet rs) throws SQLException {
+        return new User(rs.getString(1), rs.getString(2), rs.getString(3), rs.getString(4),
+                rs.getObject(5, LocalDateTime.class), rs.getObject(6, LocalDateTime.class));
+    }
+}
@@ -1,6 +1,25 @@
 package org.ject.recreation.storage.db.core;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
 
 public interface UserRepository extends JpaRepository<User, String> {
-} 
\ No newline at end of file
+
+    // SELECT 후 merge 하지 않고 한 번에 insert/update (MySQL, H2 MySQL 모드 공통 문법)
+    @Transactional
+    @Modifying
+    @Query(value = "INSERT INTO `user` (email, platform, profile_image_url, nickname, created_at, updated_at) "
+            + "VALUES (:email, :platform, :profileImageUrl, :nickname, :now, :now) "
+            + "ON DUPLICATE KEY UPDATE profile_image_url = VALUES(profile_image_url), "
+            + "nickname = VALUES(nickname), updated_at = VALUES(updated_at)", nativeQuery = true)
+    int upsert(@Param("email") String email,
+               @Param("platform") String platform,
+               @Param("profileImageUrl") String profileImageUrl,
+               @Param("nickname") String nickname,
+               @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,123 @@
+package org.ject.recreation.storage.db.core;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 로그인 시 사용자 정보를 upsert 한다.
+ * write-behind 모드에서는 이미 존재가 확인된(캐시에 있는) 사용자의 프로필 갱신을 email 단위로 모아 두었다가
+ * 주기적으로 JDBC batch 로 반영한다. 캐시에 없는 사용자는 바로 저장한 뒤 저장된 행을 다시 읽어 캐시에 올린다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "storage.mode", havingValue = "jdbc", matchIfMissing = true)
+public class UserWriter {
+
+    private static final String UPSERT_SQL = "INSERT INTO `user` "
+            + "(email, platform, profile_image_url, nickname, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?) "
+            + "ON DUPLICATE KEY UPDATE profile_image_url = VALUES(profile_image_url), "
+            + "nickname = VALUES(nickname), updated_at = VALUES(updated_at)";
+
+    private final UserRepository userRepository;
+
+    private final UserNearCache userNearCache;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final boolean writeBehindEnabled;
+
+    private final int batchSize;
+
+    private final Map<String, User> pending = new ConcurrentHashMap<>();
+
+    public UserWriter(UserRepository userRepository,
+                      UserNearCache userNearCache,
+                      JdbcTemplate jdbcTemplate,
+                      @Value("${storage.user-write-behind.enabled}") boolean writeBehindEnabled,
+                      @Value("${storage.user-write-behind.batch-size}") int batchSize) {
+        this.userRepository = userRepository;
+        this.userNearCache = userNearCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.writeBehindEnabled = writeBehindEnabled;
+        this.batchSize = batchSize;
+    }
+
+    public void upsert(User user) {
+        Optional<User> cached = userNearCache.getIfPresent(user.getEmail());
+        if (cached.isEmpty()) {
+            // 대기 중인 이전 값이 나중에 덮어쓰지 않도록 먼저 제거
+            pending.remove(user.getEmail());
+            userRepository.upsert(user.getEmail(), user.getPlatform(), user.getProfileImageUrl(), user.getNickname(),
+                    user.getUpdatedAt());
+            // 다음 로그인이 write-behind 로 모이고 이전 프로필 URL 을 알 수 있도록 저장된 행을 캐시에 올림
+            // (이미 있던 행이면 created_at 이 user 와 다르므로 user 를 그대로 넣지 않음)
+            userNearCache.evict(user.getEmail());
+            userNearCache.findById(user.getEmail());
+            return;
+        }
+
+        User merged = new User(user.getEmail(), cached.get().getPlatform(), user.getProfileImageUrl(),
+                user.getNickname(), cached.get().getCreatedAt(), user.getUpdatedAt());
+        if (writeBehindEnabled) {
+            pending.put(merged.getEmail(), merged);
+        } else {
+            userRepository.upsert(merged.getEmail(), merged.getPlatform(), merged.getProfileImageUrl(),
+                    merged.getNickname(), merged.getUpdatedAt());
+        }
+        userNearCache.put(merged);
+    }
+
+    @Scheduled(fixedDelayString = "${storage.user-write-behind.flush-interval-ms}")
+    public void flush() {
+        while (!pending.isEmpty()) {
+            List<User> batch = drain();
+            if (batch.isEmpty()) {
+                return;
+            }
+            try {
+                jdbcTemplate.batchUpdate(UPSERT_SQL, batch, batchSize, (ps, user) -> {
+                    ps.setString(1, user.getEmail());
+                    ps.setString(2, user.getPlatform());
+                    ps.setString(3, user.getProfileImageUrl());
+                    ps.setString(4, user.getNickname());
+                    ps.setObject(5, user.getCreatedAt());
+                    ps.setObject(6, user.getUpdatedAt());
+                });
+            } catch (RuntimeException e) {
+                // 실패한 항목은 그 사이 더 새로운 값이 들어오지 않았을 때만 다시 넣음
+                batch.forEach(user -> pending.putIfAbsent(user.getEmail(), user));
+                log.error("Failed to flush {} pending user updates", batch.size(), e);
+                return;
+            }
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<User> drain() {
+        List<User> batch = new ArrayList<>(Math.min(pending.size(), batchSize));
+        Iterator<String> emails = pending.keySet().iterator();
+        while (emails.hasNext() && batch.size() < batchSize) {
+            User user = pending.remove(emails.next());
+            if (user != null) {
+                batch.add(user);
+            }
+        }
+        return batch;
+    }
+}
@@ -0,0 +1,9 @@
+-- reactive 프로필(R2DBC)은 Hibernate 가 스키마를 만들지 않으므로 local 에서 이 스크립트로 생성
+CREATE TABLE IF NOT EXISTS `user` (
+    email             VARCHAR(255) NOT NULL PRIMARY KEY,
+    platform          VARCHAR(20)  NOT NULL,
+    profile_image_url VARCHAR(255),
+    nickname          VARCHAR(50)  NOT NULL,
+    created_at        TIMESTAMP(6) NOT NULL,
+    updated_at        TIMESTAMP(6) NOT NULL
+);
@@ -0,0 +1,123 @@
+package org.ject.recreation.storage.db.core;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.stereotype.Component;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+import org.springframework.transaction.annotation.Transactional;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * local-replica 프로필로 CoreDataSourceConfig 를 띄워서 readOnly 트랜잭션은 replica 풀, 나머지는 core 풀에서
+ * 커넥션을 가져가는지 확인한다. 트랜잭션 안에서 쿼리를 한 번 보낸 뒤 풀별로 빌려 간 커넥션 수를 본다.
+ */
+@SpringBootTest(classes = ReplicaRoutingTest.Config.class,
+        webEnvironment = SpringBootTest.WebEnvironment.NONE,
+        properties = "spring.config.import=classpath:db-core.yml")
+@ActiveProfiles({"local", "local-replica"})
+class ReplicaRoutingTest {
+
+    private static final String CORE_POOL = "core-db-pool";
+
+    private static final String REPLICA_POOL = "core-replica-pool-1";
+
+    @Autowired
+    private RoutingProbe routingProbe;
+
+    @Test
+    void readOnlyTransactionUsesReplicaPool() {
+        Map<String, Integer> active = routingProbe.read();
+
+        assertThat(active).containsEntry(REPLICA_POOL, 1).containsEntry(CORE_POOL, 0);
+    }
+
+    @Test
+    void readWriteTransactionUsesCorePool() {
+        Map<String, Integer> active = routingProbe.write();
+
+        assertThat(active).containsEntry(CORE_POOL, 1).containsEntry(REPLICA_POOL, 0);
+    }
+
+    @Test
+    void replicaIsSeparateDatabase() {
+        routingProbe.insertUser("routing@test.local");
+
+        // 복제가 없으므로 core 에 넣은 행이 replica 조회에는 보이지 않아야 함
+        assertThat(routingProbe.countUsersOnReplica("routing@test.local")).isZero();
+    }
+
+    @Configuration
+    @EnableTransactionManagement
+    @Import({CoreDataSourceConfig.class, QueryAccounting.class, RoutingProbe.class})
+    static class Config {
+
+        @Bean
+        PlatformTransactionManager transactionManager(DataSource coreDataSource) {
+            return new DataSourceTransactionManager(coreDataSource);
+        }
+
+        @Bean
+        JdbcTemplate jdbcTemplate(DataSource coreDataSource) {
+            return new JdbcTemplate(coreDataSource);
+        }
+    }
+
+    @Component
+    static class RoutingProbe {
+
+        private final JdbcTemplate jdbcTemplate;
+
+        private final CoreDataSourceConfig coreDataSourceConfig;
+
+        RoutingProbe(JdbcTemplate jdbcTemplate, CoreDataSourceConfig coreDataSourceConfig) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.coreDataSourceConfig = coreDataSourceConfig;
+        }
+
+        @Transactional(readOnly = true)
+        public Map<String, Integer> read() {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return activeConnections();
+        }
+
+        @Transactional
+        public Map<String, Integer> write() {
+            jdbcTemplate.queryForObject("SELECT 1", Integer.class);
+            return activeConnections();
+        }
+
+        @Transactional
+        public void insertUser(String email) {
+            // replica 와 같은 스키마를 core 에도 만듦 (local 은 원래 Hibernate ddl-auto 로 만듦)
+            jdbcTemplate.execute("RUNSCRIPT FROM 'classpath:db/user-schema.sql'");
+            jdbcTemplate.update("INSERT INTO `user` (email, platform, nickname, created_at, updated_at) "
+                    + "VALUES (?, 'kakao', 'routing', LOCALTIMESTAMP, LOCALTIMESTAMP)", email);
+        }
+
+        @Transactional(readOnly = true)
+        public int countUsersOnReplica(String email) {
+            return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM `user` WHERE email = ?", Integer.class, email);
+        }
+
+        // LazyConnectionDataSourceProxy 는 첫 statement 에서 풀을 고르므로 쿼리 뒤에 봐야 함
+        private Map<String, Integer> activeConnections() {
+            return coreDataSourceConfig.getPools().stream()
+                    .collect(Collectors.toMap(HikariDataSource::getPoolName,
+                            pool -> pool.getHikariPoolMXBean().getActiveConnections()));
+        }
+    }
+}
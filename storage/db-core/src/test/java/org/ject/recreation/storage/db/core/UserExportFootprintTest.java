@@ -0,0 +1,81 @@
+package org.ject.recreation.storage.db.core;
+
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 사용자 수백만 건을 H2 파일 DB 에 넣고 UserReader.export 로 전부 읽는다.
+ * exportFootprintTest 태스크가 작은 고정 힙(maxHeapSize)으로 따로 띄우므로 export 가 결과를 힙에 모으면 OOM 으로 실패한다.
+ * 행 수는 -Pexport.rows 로 바꿀 수 있음.
+ */
+@Tag("footprint")
+class UserExportFootprintTest {
+
+    private static final long SEED_CHUNK = 100_000;
+
+    private static final String SEED_SQL = "INSERT INTO `user` "
+            + "(email, platform, profile_image_url, nickname, created_at, updated_at) "
+            + "SELECT CONCAT('user', LPAD(CAST(X AS VARCHAR), 10, '0'), '@test.local'), 'kakao', "
+            + "CONCAT('https://img.test.local/', X, '.jpg'), CONCAT('user', X), LOCALTIMESTAMP, LOCALTIMESTAMP "
+            + "FROM SYSTEM_RANGE(?, ?)";
+
+    @TempDir
+    Path dbDir;
+
+    private HikariDataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        HikariConfig config = new HikariConfig();
+        // 메모리 DB 는 행 자체가 힙에 올라가므로 파일 DB 로 두고 페이지 캐시도 작게 제한
+        config.setJdbcUrl("jdbc:h2:file:" + dbDir.resolve("core")
+                + ";MODE=MySQL;CACHE_SIZE=8192;LAZY_QUERY_EXECUTION=TRUE");
+        config.setUsername("sa");
+        config.setMaximumPoolSize(2);
+        dataSource = new HikariDataSource(config);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        new ResourceDatabasePopulator(new ClassPathResource("db/user-schema.sql")).execute(dataSource);
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    void exportStreamsAllRowsWithoutHoldingThemOnHeap() {
+        long rows = Long.getLong("export.rows", 2_000_000);
+        // 한 트랜잭션이 너무 커지지 않도록 나눠서 넣음
+        for (long from = 1; from <= rows; from += SEED_CHUNK) {
+            jdbcTemplate.update(SEED_SQL, from, Math.min(rows, from + SEED_CHUNK - 1));
+        }
+
+        UserReader userReader = new UserReader(jdbcTemplate, 1000);
+        String[] previous = {""};
+        long[] outOfOrder = {0};
+        long exported = userReader.export(null, user -> {
+            // 받은 User 를 붙잡지 않고 순서만 확인
+            if (user.getEmail().compareTo(previous[0]) <= 0) {
+                outOfOrder[0]++;
+            }
+            previous[0] = user.getEmail();
+        });
+
+        assertThat(exported).isEqualTo(rows);
+        assertThat(outOfOrder[0]).isZero();
+    }
+}
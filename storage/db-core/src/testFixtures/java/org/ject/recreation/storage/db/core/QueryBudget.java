@@ -0,0 +1,71 @@
+package org.ject.recreation.storage.db.core;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+
+/**
+ * 코드 블록이 쓰는 SQL statement 수의 상한을 확인한다. 넘으면 fingerprint 별 실행 횟수를 담은 AssertionError 를 던진다.
+ * <pre>
+ * QueryBudget.maxStatements(2).maxRepeats(1)
+ *         .verify("loginWithKakao", () -> socialLoginService.loginWithKakao(request, "test"));
+ * </pre>
+ * storage.query-accounting.enabled=true 여야 statement 가 기록되고, 블록 안에서 다른 스레드로 넘긴 쿼리는 세지 않는다.
+ */
+public final class QueryBudget {
+
+    private final int maxStatements;
+
+    private final int maxRepeats;
+
+    private QueryBudget(int maxStatements, int maxRepeats) {
+        this.maxStatements = maxStatements;
+        this.maxRepeats = maxRepeats;
+    }
+
+    public static QueryBudget maxStatements(int maxStatements) {
+        return new QueryBudget(maxStatements, 0);
+    }
+
+    // 같은 fingerprint 를 몇 번까지 허용할지 (N+1 방지). 0 이면 보지 않음
+    public QueryBudget maxRepeats(int maxRepeats) {
+        return new QueryBudget(maxStatements, maxRepeats);
+    }
+
+    public <T> T verify(String name, Supplier<T> action) {
+        T result;
+        QueryScope scope = QueryScope.open(name);
+        try {
+            result = action.get();
+        } finally {
+            scope.close();
+        }
+        verify(scope);
+        return result;
+    }
+
+    public void verify(String name, Runnable action) {
+        verify(name, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public void verify(QueryScope scope) {
+        List<String> violations = new ArrayList<>();
+        if (scope.getStatementCount() > maxStatements) {
+            violations.add(scope.getStatementCount() + " statements > " + maxStatements);
+        }
+        if (maxRepeats > 0) {
+            scope.getExecutions().forEach((fingerprint, count) -> {
+                if (count > maxRepeats) {
+                    violations.add(count + "x > " + maxRepeats + "x: " + fingerprint);
+                }
+            });
+        }
+        if (!violations.isEmpty()) {
+            throw new AssertionError("Query budget exceeded in " + scope.getName() + ": " + violations
+                    + "\n  executed: " + scope.getExecutions());
+        }
+    }
+}
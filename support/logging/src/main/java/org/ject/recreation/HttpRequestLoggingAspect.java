@@ -1,32 +1,53 @@
 package org.ject.recreation;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
-import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
 import org.aspectj.lang.reflect.MethodSignature;
-import org.springframework.context.annotation.Profile;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.io.IOException;
+import java.io.Writer;
 import java.lang.annotation.Annotation;
 import java.lang.reflect.Method;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Slf4j
 @Aspect
 @Component
-@Profile({"local", "dev"})
+@ConditionalOnProperty(name = "logging.http-request.enabled", havingValue = "true")
 public class HttpRequestLoggingAspect {
 
+    private static final String TRUNCATED_SUFFIX = "...(truncated)";
+
     private final ObjectMapper objectMapper = new ObjectMapper();
 
+    // 메서드별 @RequestBody 위치 등은 한 번만 계산해서 재사용
+    private final Map<Method, HandlerMetadata> handlerMetadataCache = new ConcurrentHashMap<>();
+
+    private final double sampleRate;
+
+    private final int maxBodyLength;
+
+    public HttpRequestLoggingAspect(@Value("${logging.http-request.sample-rate:1.0}") double sampleRate,
+                                    @Value("${logging.http-request.max-body-length:2048}") int maxBodyLength) {
+        this.sampleRate = sampleRate;
+        this.maxBodyLength = maxBodyLength;
+    }
+
     // Pointcut: 모든 컨트롤러 메서드에 적용
     @Pointcut("execution(* org.ject.recreation..controller..*(..))")
     public void controllerMethods() {}
@@ -42,51 +63,151 @@ public class HttpRequestLoggingAspect {
 
     @Around("controllerMethods() && httpRequestMappingMethods()")
     public Object logHttpRequestDetails(ProceedingJoinPoint joinPoint) throws Throwable {
+        // 로그가 나가지 않을 요청은 아무것도 만들지 않고 바로 진행
+        if (!log.isDebugEnabled() || !isSampled()) {
+            return joinPoint.proceed();
+        }
+
         HttpServletRequest request = getCurrentHttpRequest();
         if (request == null) {
             return joinPoint.proceed();
         }
 
-        Map<String, Object> requestLogContext = new LinkedHashMap<>();
-
-        requestLogContext.put("method", request.getMethod());
-        requestLogContext.put("uri", request.getRequestURI());
-        requestLogContext.put("query", extractQueryParams(request));
-        requestLogContext.put("body", extractRequestBody(joinPoint));
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        HandlerMetadata metadata = handlerMetadataCache.get(method);
+        if (metadata == null) {
+            metadata = handlerMetadataCache.computeIfAbsent(method, HandlerMetadata::from);
+        }
 
-        log.debug("{}", objectMapper.writeValueAsString(requestLogContext));
+        // 직렬화는 로그 이벤트가 실제로 출력될 때(toString) 수행됨
+        log.debug("{}", new RequestLogMessage(request, metadata, joinPoint.getArgs()));
 
         return joinPoint.proceed();
     }
 
+    private boolean isSampled() {
+        return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+    }
+
     private HttpServletRequest getCurrentHttpRequest() {
         ServletRequestAttributes attributes = (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
         return (attributes != null) ? attributes.getRequest() : null;
     }
 
-    private Map<String, Object> extractQueryParams(HttpServletRequest request) {
-        Map<String, Object> query = new HashMap<>();
-        request.getParameterMap().forEach((key, values) -> {
-            query.put(key, values.length == 1 ? values[0] : Arrays.asList(values));
-        });
-        return query;
+    private record HandlerMetadata(String handler, int requestBodyIndex) {
+
+        static HandlerMetadata from(Method method) {
+            Annotation[][] annotations = method.getParameterAnnotations();
+            int requestBodyIndex = -1;
+            for (int i = 0; i < annotations.length && requestBodyIndex < 0; i++) {
+                for (Annotation annotation : annotations[i]) {
+                    if (annotation instanceof RequestBody) {
+                        requestBodyIndex = i;
+                        break;
+                    }
+                }
+            }
+            return new HandlerMetadata(method.getDeclaringClass().getSimpleName() + "#" + method.getName(),
+                    requestBodyIndex);
+        }
     }
 
-    private Object extractRequestBody(JoinPoint joinPoint) {
-        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
-        Object[] args = joinPoint.getArgs();
-        Annotation[][] annotations = method.getParameterAnnotations();
+    private final class RequestLogMessage {
+
+        private final HttpServletRequest request;
+
+        private final HandlerMetadata metadata;
+
+        private final Object[] args;
+
+        private RequestLogMessage(HttpServletRequest request, HandlerMetadata metadata, Object[] args) {
+            this.request = request;
+            this.metadata = metadata;
+            this.args = args;
+        }
+
+        @Override
+        public String toString() {
+            Map<String, Object> requestLogContext = new LinkedHashMap<>();
+            requestLogContext.put("method", request.getMethod());
+            requestLogContext.put("uri", request.getRequestURI());
+            requestLogContext.put("handler", metadata.handler());
+            requestLogContext.put("query", extractQueryParams(request));
+            requestLogContext.put("body", extractRequestBody());
+            try {
+                return objectMapper.writeValueAsString(requestLogContext);
+            } catch (JsonProcessingException e) {
+                return requestLogContext.toString();
+            }
+        }
+
+        private Map<String, Object> extractQueryParams(HttpServletRequest request) {
+            Map<String, Object> query = new HashMap<>();
+            request.getParameterMap().forEach((key, values) -> {
+                query.put(key, values.length == 1 ? values[0] : Arrays.asList(values));
+            });
+            return query;
+        }
 
-        for (int i = 0; i < annotations.length; i++) {
-            boolean hasRequestBody = Arrays.stream(annotations[i])
-                    .anyMatch(annotation -> annotation instanceof RequestBody);
+        private Object extractRequestBody() {
+            if (metadata.requestBodyIndex() < 0) {
+                return Collections.emptyMap();
+            }
 
-            if (hasRequestBody) {
-                return args[i];
+            LimitedWriter writer = new LimitedWriter(maxBodyLength);
+            try {
+                objectMapper.writeValue(writer, args[metadata.requestBodyIndex()]);
+            } catch (IOException e) {
+                if (!writer.isTruncated()) {
+                    return String.valueOf(args[metadata.requestBodyIndex()]);
+                }
             }
+            // 잘린 본문은 JSON 으로 유효하지 않으므로 문자열로 남김
+            return writer.isTruncated() ? writer + TRUNCATED_SUFFIX : new RawValue(writer.toString());
+        }
+    }
+
+    /**
+     * 한도를 넘으면 예외로 직렬화를 중단시켜 큰 본문을 끝까지 만들지 않도록 한다.
+     */
+    private static final class LimitedWriter extends Writer {
+
+        private final StringBuilder buffer = new StringBuilder();
+
+        private final int limit;
+
+        private boolean truncated;
+
+        private LimitedWriter(int limit) {
+            this.limit = limit;
         }
 
-        return Collections.emptyMap();
+        @Override
+        public void write(char[] cbuf, int off, int len) throws IOException {
+            int remaining = limit - buffer.length();
+            if (len > remaining) {
+                buffer.append(cbuf, off, Math.max(remaining, 0));
+                truncated = true;
+                throw new IOException("Request body exceeds " + limit + " characters");
+            }
+            buffer.append(cbuf, off, len);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+
+        boolean isTruncated() {
+            return truncated;
+        }
+
+        @Override
+        public String toString() {
+            return buffer.toString();
+        }
     }
 }
-
@@ -0,0 +1,141 @@
+package org.ject.recreation.logging;
+
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.IThrowableProxy;
+import ch.qos.logback.classic.spi.ThrowableProxyUtil;
+import ch.qos.logback.core.encoder.EncoderBase;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+
+/**
+ * 로그 이벤트를 한 줄짜리 JSON 으로 바로 UTF-8 바이트에 인코딩한다.
+ * 여러 스레드에서 동시에 호출되므로 상태를 갖지 않는다.
+ */
+public class JsonLogEncoder extends EncoderBase<ILoggingEvent> {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    @Override
+    public byte[] headerBytes() {
+        return null;
+    }
+
+    @Override
+    public byte[] encode(ILoggingEvent event) {
+        ByteWriter out = new ByteWriter(256);
+        out.ascii("{\"timestamp\":\"").ascii(Instant.ofEpochMilli(event.getTimeStamp()).toString())
+                .ascii("\",\"level\":\"").ascii(event.getLevel().toString())
+                .ascii("\",\"thread\":").string(event.getThreadName())
+                .ascii(",\"logger\":").string(event.getLoggerName())
+                .ascii(",\"message\":").string(event.getFormattedMessage());
+
+        Map<String, String> mdc = event.getMDCPropertyMap();
+        if (mdc != null && !mdc.isEmpty()) {
+            out.ascii(",\"mdc\":{");
+            boolean first = true;
+            for (Map.Entry<String, String> entry : mdc.entrySet()) {
+                if (!first) {
+                    out.ascii(",");
+                }
+                out.string(entry.getKey()).ascii(":").string(entry.getValue());
+                first = false;
+            }
+            out.ascii("}");
+        }
+
+        IThrowableProxy throwable = event.getThrowableProxy();
+        if (throwable != null) {
+            out.ascii(",\"exception\":").string(ThrowableProxyUtil.asString(throwable));
+        }
+        return out.ascii("}\n").toByteArray();
+    }
+
+    @Override
+    public byte[] footerBytes() {
+        return null;
+    }
+
+    private static final class ByteWriter {
+
+        private byte[] bytes;
+
+        private int length;
+
+        private ByteWriter(int initialCapacity) {
+            this.bytes = new byte[initialCapacity];
+        }
+
+        ByteWriter ascii(String value) {
+            ensure(value.length());
+            for (int i = 0; i < value.length(); i++) {
+                bytes[length++] = (byte) value.charAt(i);
+            }
+            return this;
+        }
+
+        ByteWriter string(String value) {
+            if (value == null) {
+                return ascii("null");
+            }
+            // 최악의 경우(모든 문자가 \\uXXXX) 를 고려해서 미리 확보
+            ensure(value.length() * 6 + 2);
+            bytes[length++] = '"';
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c == '"' || c == '\\') {
+                    bytes[length++] = '\\';
+                    bytes[length++] = (byte) c;
+                } else if (c == '\n') {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 'n';
+                } else if (c == '\r') {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 'r';
+                } else if (c == '\t') {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 't';
+                } else if (c < 0x20) {
+                    bytes[length++] = '\\';
+                    bytes[length++] = 'u';
+                    bytes[length++] = '0';
+                    bytes[length++] = '0';
+                    bytes[length++] = HEX[c >> 4];
+                    bytes[length++] = HEX[c & 0xF];
+                } else if (c < 0x80) {
+                    bytes[length++] = (byte) c;
+                } else if (c < 0x800) {
+                    bytes[length++] = (byte) (0xC0 | (c >> 6));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                } else if (Character.isHighSurrogate(c) && i + 1 < value.length()
+                        && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    bytes[length++] = (byte) (0xF0 | (codePoint >> 18));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else if (Character.isSurrogate(c)) {
+                    bytes[length++] = '?';
+                } else {
+                    bytes[length++] = (byte) (0xE0 | (c >> 12));
+                    bytes[length++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                    bytes[length++] = (byte) (0x80 | (c & 0x3F));
+                }
+            }
+            bytes[length++] = '"';
+            return this;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(bytes, length);
+        }
+
+        private void ensure(int additional) {
+            if (length + additional > bytes.length) {
+                bytes = Arrays.copyOf(bytes, Math.max(bytes.length * 2, length + additional));
+            }
+        }
+    }
+}
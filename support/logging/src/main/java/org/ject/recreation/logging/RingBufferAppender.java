@@ -0,0 +1,236 @@
+package org.ject.recreation.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.encoder.Encoder;
+
+import java.io.BufferedOutputStream;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 요청 스레드에서는 이벤트를 바이트로 인코딩해서 링 버퍼에 넣기만 하고, 실제 출력(stdout)은 백그라운드 스레드가 한다.
+ * 버퍼가 가득 차면 maxDroppableLevel 이하(기본 INFO) 이벤트는 버리고 개수만 센다.
+ * 그보다 높은 레벨(WARN, ERROR)은 기다리지 않고 별도 overflow 큐로 넘기고, overflow 큐도 overflowLimit 만큼 차면 버리고 센다.
+ * 출력이 IOException 으로 실패하면 실패한 이벤트는 버리고 간격을 늘려 가며 다시 시도한다.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent> {
+
+    private static final long MIN_RETRY_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private static final long MAX_RETRY_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private Encoder<ILoggingEvent> encoder;
+
+    private int bufferSize = 8192;
+
+    private Level maxDroppableLevel = Level.INFO;
+
+    private int overflowLimit = 4096;
+
+    private MpscRingBuffer<byte[]> ringBuffer;
+
+    private final Queue<byte[]> overflow = new ConcurrentLinkedQueue<>();
+
+    // ConcurrentLinkedQueue.size() 는 O(n) 이라 크기는 따로 셈
+    private final AtomicInteger overflowSize = new AtomicInteger();
+
+    private final LongAdder droppedDebug = new LongAdder();
+
+    private final LongAdder droppedInfo = new LongAdder();
+
+    private final LongAdder droppedOther = new LongAdder();
+
+    private final LongAdder overflowed = new LongAdder();
+
+    private final LongAdder writeFailures = new LongAdder();
+
+    private volatile boolean running;
+
+    // writer 가 비어 있는 버퍼를 보고 park 하려는 중이면 true. append 가 이 값을 보고 unpark 함
+    private volatile boolean writerIdle;
+
+    private Thread writerThread;
+
+    public void setEncoder(Encoder<ILoggingEvent> encoder) {
+        this.encoder = encoder;
+    }
+
+    public void setBufferSize(int bufferSize) {
+        this.bufferSize = bufferSize;
+    }
+
+    public void setMaxDroppableLevel(String maxDroppableLevel) {
+        this.maxDroppableLevel = Level.toLevel(maxDroppableLevel, Level.INFO);
+    }
+
+    public void setOverflowLimit(int overflowLimit) {
+        this.overflowLimit = overflowLimit;
+    }
+
+    public long getDroppedCount() {
+        return droppedDebug.sum() + droppedInfo.sum() + droppedOther.sum();
+    }
+
+    public long getDroppedCount(Level level) {
+        if (level == Level.DEBUG || level == Level.TRACE) {
+            return droppedDebug.sum();
+        }
+        return level == Level.INFO ? droppedInfo.sum() : droppedOther.sum();
+    }
+
+    public long getOverflowCount() {
+        return overflowed.sum();
+    }
+
+    public long getWriteFailureCount() {
+        return writeFailures.sum();
+    }
+
+    public int getQueueSize() {
+        return ringBuffer == null ? 0 : ringBuffer.size() + overflowSize.get();
+    }
+
+    @Override
+    public void start() {
+        if (encoder == null) {
+            addError("No encoder set for the appender named [" + name + "].");
+            return;
+        }
+        ringBuffer = new MpscRingBuffer<>(Integer.highestOneBit(Math.max(bufferSize, 2)));
+        running = true;
+        writerThread = new Thread(this::writeLoop, "log-writer-" + name);
+        writerThread.setDaemon(true);
+        writerThread.start();
+        super.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        running = false;
+        LockSupport.unpark(writerThread);
+        try {
+            writerThread.join(TimeUnit.SECONDS.toMillis(2));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (getDroppedCount() > 0) {
+            addWarn("Dropped " + getDroppedCount() + " log events because the ring buffer was full");
+        }
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean droppable = maxDroppableLevel.isGreaterOrEqual(event.getLevel());
+        // 버릴 이벤트라면 인코딩 비용도 쓰지 않음
+        if (droppable && ringBuffer.size() >= ringBuffer.capacity()) {
+            countDropped(event.getLevel());
+            return;
+        }
+
+        byte[] bytes = encoder.encode(event);
+        if (ringBuffer.offer(bytes)) {
+            wakeWriter();
+            return;
+        }
+        if (droppable) {
+            countDropped(event.getLevel());
+        } else if (overflowSize.incrementAndGet() > overflowLimit) {
+            // 출력이 계속 막히면 WARN/ERROR 도 메모리를 끝없이 쓰지 않도록 버림
+            overflowSize.decrementAndGet();
+            countDropped(event.getLevel());
+        } else {
+            overflowed.increment();
+            overflow.offer(bytes);
+            wakeWriter();
+        }
+    }
+
+    // 바쁠 때는 writer 가 깨어 있으므로 volatile 읽기 한 번으로 끝나고, 쉬고 있을 때만 unpark 함
+    private void wakeWriter() {
+        if (writerIdle) {
+            LockSupport.unpark(writerThread);
+        }
+    }
+
+    private void countDropped(Level level) {
+        if (level == Level.DEBUG || level == Level.TRACE) {
+            droppedDebug.increment();
+        } else if (level == Level.INFO) {
+            droppedInfo.increment();
+        } else {
+            droppedOther.increment();
+        }
+    }
+
+    private void writeLoop() {
+        OutputStream out = new BufferedOutputStream(new FileOutputStream(FileDescriptor.out), 64 * 1024);
+        long retryNanos = 0;
+        while (running || ringBuffer.size() > 0 || overflowSize.get() > 0) {
+            try {
+                if (!drain(out)) {
+                    out.flush();
+                    awaitEvents();
+                }
+                retryNanos = 0;
+            } catch (IOException e) {
+                writeFailures.increment();
+                // 연속 실패는 첫 번째만 상태 메시지로 남김
+                if (retryNanos == 0) {
+                    addError("Failed to write log events, retrying", e);
+                }
+                if (!running) {
+                    return;
+                }
+                retryNanos = Math.min(Math.max(retryNanos * 2, MIN_RETRY_NANOS), MAX_RETRY_NANOS);
+                LockSupport.parkNanos(this, retryNanos);
+            }
+        }
+        try {
+            out.flush();
+        } catch (IOException e) {
+            addError("Failed to flush log events", e);
+        }
+    }
+
+    private void awaitEvents() {
+        writerIdle = true;
+        // 표시한 뒤에 다시 확인해야 그 사이에 들어온 이벤트를 놓치지 않음 (append 는 넣은 뒤에 writerIdle 을 봄).
+        // unpark 가 park 보다 먼저 와도 permit 이 남아 있어서 바로 돌아옴
+        if (running && ringBuffer.size() == 0 && overflowSize.get() == 0) {
+            LockSupport.park(this);
+        }
+        writerIdle = false;
+    }
+
+    private boolean drain(OutputStream out) throws IOException {
+        boolean wrote = false;
+        byte[] bytes;
+        // overflow 큐에는 WARN/ERROR 만 들어오므로 먼저 비움.
+        // 그래서 출력 순서는 발생 순서와 다를 수 있다: 버퍼가 찼을 때의 WARN/ERROR 가 링 버퍼에 남아 있던
+        // 더 이른 INFO 보다 먼저 찍힌다. 순서가 필요하면 timestamp 필드로 정렬해서 본다.
+        while ((bytes = overflow.poll()) != null) {
+            overflowSize.decrementAndGet();
+            out.write(bytes);
+            wrote = true;
+        }
+        while ((bytes = ringBuffer.poll()) != null) {
+            out.write(bytes);
+            wrote = true;
+        }
+        return wrote;
+    }
+}
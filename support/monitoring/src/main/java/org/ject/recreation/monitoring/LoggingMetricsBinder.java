@@ -0,0 +1,53 @@
+package org.ject.recreation.monitoring;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.Appender;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.ject.recreation.logging.RingBufferAppender;
+import org.slf4j.LoggerFactory;
+
+import java.util.Iterator;
+
+/**
+ * RingBufferAppender 의 버린 로그 수, 출력 실패 수와 대기 중인 로그 수를 메트릭으로 노출한다.
+ */
+public class LoggingMetricsBinder implements MeterBinder {
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        if (!(LoggerFactory.getILoggerFactory() instanceof LoggerContext loggerContext)) {
+            return;
+        }
+        Iterator<Appender<ILoggingEvent>> appenders =
+                loggerContext.getLogger(Logger.ROOT_LOGGER_NAME).iteratorForAppenders();
+        while (appenders.hasNext()) {
+            if (appenders.next() instanceof RingBufferAppender appender) {
+                bind(registry, appender);
+            }
+        }
+    }
+
+    private void bind(MeterRegistry registry, RingBufferAppender appender) {
+        for (Level level : new Level[]{Level.DEBUG, Level.INFO, Level.WARN}) {
+            FunctionCounter.builder("logging.events.dropped", appender, a -> a.getDroppedCount(level))
+                    .tag("appender", appender.getName())
+                    .tag("level", level.toString())
+                    .register(registry);
+        }
+        FunctionCounter.builder("logging.events.overflowed", appender, RingBufferAppender::getOverflowCount)
+                .tag("appender", appender.getName())
+                .register(registry);
+        FunctionCounter.builder("logging.write.failures", appender, RingBufferAppender::getWriteFailureCount)
+                .tag("appender", appender.getName())
+                .register(registry);
+        Gauge.builder("logging.events.queued", appender, RingBufferAppender::getQueueSize)
+                .tag("appender", appender.getName())
+                .register(registry);
+    }
+}
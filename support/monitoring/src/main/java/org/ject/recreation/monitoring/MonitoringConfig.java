@@ -0,0 +1,15 @@
+package org.ject.recreation.monitoring;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class MonitoringConfig {
+
+    @Bean
+    @ConditionalOnClass(name = "org.ject.recreation.logging.RingBufferAppender")
+    public LoggingMetricsBinder loggingMetricsBinder() {
+        return new LoggingMetricsBinder();
+    }
+}